@@ -1,23 +1,34 @@
+import model.DataChange;
+import model.Money;
 import model.Room;
 import model.User;
+import dao.DataChangeBus;
 import dao.RoomDAO;
+import util.AsyncDatabase;
+import util.Debouncer;
+import util.IconCache;
+import util.LatestRequest;
 import util.NotificationManager;
+import util.TableSearch;
 import util.ThemeManager;
 import javax.swing.*;
-import javax.swing.table.DefaultTableModel;
 import javax.swing.table.DefaultTableCellRenderer;
 import javax.swing.table.JTableHeader;
 import java.awt.*;
-import java.io.File;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
-public class AddRoom extends JFrame implements ThemeManager.ThemeChangeListener {
+public class AddRoom extends JFrame implements ThemeManager.ThemeChangeListener, DataChangeBus.DataChangeListener, AppShell.Screen {
     
     private RoomDAO roomDAO;
+    private final LatestRequest roomLoad = new LatestRequest();
+    private final Debouncer searchDebounce = new Debouncer(Debouncer.SEARCH_DELAY_MS);
+    private TableSearch roomSearch;
     private User currentUser;
     
     private JTable tableRooms;
+    private RoomTableModel roomModel;
     private JTextField txtRoomNumber, txtCapacity, txtPrice;
     private JComboBox<String> cmbStatus, cmbRoomType;
     private JLabel lblTotalRooms, lblAvailableRooms;
@@ -41,6 +52,7 @@ public class AddRoom extends JFrame implements ThemeManager.ThemeChangeListener
         this.roomDAO = new RoomDAO();
         
         ThemeManager.addThemeChangeListener(this);
+        DataChangeBus.addListener(this);
         
         initComponents();
         loadRooms();
@@ -96,22 +108,6 @@ public class AddRoom extends JFrame implements ThemeManager.ThemeChangeListener
         combo.setBorder(BorderFactory.createLineBorder(ThemeManager.getInputBorder(), 1));
     }
     
-    private ImageIcon loadIcon(String filename, int width, int height) {
-        try {
-            String path = "src/icons/" + filename;
-            File file = new File(path);
-            if (file.exists()) {
-                ImageIcon icon = new ImageIcon(path);
-                Image img = icon.getImage().getScaledInstance(width, height, Image.SCALE_SMOOTH);
-                return new ImageIcon(img);
-            }
-            return null;
-        } catch (Exception e) {
-            e.printStackTrace();
-            return null;
-        }
-    }
-    
     private void initComponents() {
         setTitle("RentEase - Room Management");
         setExtendedState(JFrame.MAXIMIZED_BOTH);
@@ -176,10 +172,10 @@ public class AddRoom extends JFrame implements ThemeManager.ThemeChangeListener
             final int index = i;
             btn.addActionListener(e -> {
                 switch(index) {
-                    case 0: this.dispose(); new Dashboard(currentUser).setVisible(true); break;
-                    case 1: this.dispose(); new HouseRent(currentUser).setVisible(true); break;
-                    case 3: this.dispose(); new PaymentRecords(currentUser).setVisible(true); break;
-                    case 4: this.dispose(); new Settings(currentUser).setVisible(true); break;
+                    case 0: AppShell.show(AppShell.Section.DASHBOARD); break;
+                    case 1: AppShell.show(AppShell.Section.TENANTS); break;
+                    case 3: AppShell.show(AppShell.Section.PAYMENTS); break;
+                    case 4: AppShell.show(AppShell.Section.SETTINGS); break;
                 }
             });
             
@@ -188,7 +184,7 @@ public class AddRoom extends JFrame implements ThemeManager.ThemeChangeListener
         }
         
         JButton btnLogout = new JButton();
-        ImageIcon logoutIcon = loadIcon("logout.png", 20, 20);
+        ImageIcon logoutIcon = IconCache.get("logout.png", 20, 20);
         
         if (logoutIcon != null) {
             btnLogout.setIcon(logoutIcon);
@@ -226,7 +222,7 @@ public class AddRoom extends JFrame implements ThemeManager.ThemeChangeListener
         btn.setCursor(new Cursor(Cursor.HAND_CURSOR));
         btn.setBorder(BorderFactory.createEmptyBorder(0, 15, 0, 0));
         
-        ImageIcon icon = loadIcon(iconFile, 20, 20);
+        ImageIcon icon = IconCache.get(iconFile, 20, 20);
         if (icon != null) {
             btn.setIcon(icon);
             btn.setText("  " + text);
@@ -446,14 +442,14 @@ public class AddRoom extends JFrame implements ThemeManager.ThemeChangeListener
         // ✅ NEW: Real-time search as user types
         txtSearch.addKeyListener(new java.awt.event.KeyAdapter() {
             public void keyReleased(java.awt.event.KeyEvent evt) {
-                searchRooms();
+                searchDebounce.call(AddRoom.this::searchRooms);
             }
         });
         
         parent.add(txtSearch);
         
         JButton btnSearch = new JButton();
-        ImageIcon searchIcon = loadIcon("search.png", 20, 20);
+        ImageIcon searchIcon = IconCache.get("search.png", 20, 20);
         if (searchIcon != null) {
             btnSearch.setIcon(searchIcon);
         } else {
@@ -481,6 +477,7 @@ public class AddRoom extends JFrame implements ThemeManager.ThemeChangeListener
             clearFields();
             txtSearch.setText("Search rooms...");
             txtSearch.setForeground(Color.GRAY);
+            roomSearch.setFilter("", 5, currentFilter);
             loadRooms();
         });
         parent.add(btnRefresh);
@@ -535,14 +532,10 @@ public class AddRoom extends JFrame implements ThemeManager.ThemeChangeListener
         tableRooms.setSelectionForeground(ThemeManager.getTextPrimary());
         tableRooms.setForeground(ThemeManager.getTextPrimary());
         
-        DefaultTableModel model = new DefaultTableModel() {
-            @Override
-            public boolean isCellEditable(int row, int column) {
-                return false;
-            }
-        };
-        model.setColumnIdentifiers(new String[]{"ID", "Room No", "Type", "Capacity", "Price", "Status"});
-        tableRooms.setModel(model);
+        roomModel = new RoomTableModel();
+        tableRooms.setModel(roomModel);
+        // Search room number, type and status in memory
+        roomSearch = new TableSearch(tableRooms, 1, 2, 5);
         
         // Hide ID column
         tableRooms.getColumnModel().getColumn(0).setMinWidth(0);
@@ -620,7 +613,7 @@ public class AddRoom extends JFrame implements ThemeManager.ThemeChangeListener
         centerRenderer.setHorizontalAlignment(SwingConstants.CENTER);
         tableRooms.getColumnModel().getColumn(1).setCellRenderer(centerRenderer);
         tableRooms.getColumnModel().getColumn(3).setCellRenderer(centerRenderer);
-        tableRooms.getColumnModel().getColumn(4).setCellRenderer(centerRenderer);
+        tableRooms.getColumnModel().getColumn(4).setCellRenderer(new MoneyRenderer());
         
         tableRooms.getColumnModel().getColumn(1).setPreferredWidth(80);
         tableRooms.getColumnModel().getColumn(2).setPreferredWidth(120);
@@ -646,7 +639,7 @@ public class AddRoom extends JFrame implements ThemeManager.ThemeChangeListener
         btn.setHorizontalAlignment(SwingConstants.LEFT);
         btn.setBorder(BorderFactory.createEmptyBorder(6, 10, 6, 12));
         
-        ImageIcon ic = loadIcon(iconFile, 16, 16);
+        ImageIcon ic = IconCache.get(iconFile, 16, 16);
         if (ic != null) {
             btn.setIcon(ic);
             btn.setIconTextGap(8);
@@ -663,26 +656,13 @@ public class AddRoom extends JFrame implements ThemeManager.ThemeChangeListener
         btn.addActionListener(e -> {
             currentFilter = label;
             updateFilterButtons(label);
-            loadRooms();
+            searchRooms();
         });
         
         return btn;
     }
     
     private void updateFilterButtons(String activeFilter) {
-        Map<String, Integer> counts = roomDAO.getStatusCounts();
-        int all = counts.getOrDefault("All", 0);
-        int avail = counts.getOrDefault("Available", 0);
-        int occ = counts.getOrDefault("Occupied", 0);
-        int maint = counts.getOrDefault("Maintenance", 0);
-        int under = counts.getOrDefault("Under Repair", 0);
-        
-        btnFilterAll.setText("All (" + all + ")");
-        btnFilterAvailable.setText("Available (" + avail + ")");
-        btnFilterOccupied.setText("Occupied (" + occ + ")");
-        btnFilterMaintenance.setText("Maintenance (" + maint + ")");
-        btnFilterUnderRepair.setText("Under Repair (" + under + ")");
-        
         btnFilterAll.setBackground(activeFilter.equals("All") ? new Color(59,130,246) : new Color(247,249,250));
         btnFilterAll.setForeground(activeFilter.equals("All") ? Color.WHITE : new Color(51,65,85));
         
@@ -699,57 +679,34 @@ public class AddRoom extends JFrame implements ThemeManager.ThemeChangeListener
         btnFilterUnderRepair.setForeground(activeFilter.equals("Under Repair") ? Color.WHITE : new Color(51,65,85));
     }
     
+    private void showStatusCounts(Map<String, Integer> counts) {
+        int all = counts.getOrDefault("All", 0);
+        int avail = counts.getOrDefault("Available", 0);
+        int occ = counts.getOrDefault("Occupied", 0);
+        int maint = counts.getOrDefault("Maintenance", 0);
+        int under = counts.getOrDefault("Under Repair", 0);
+        
+        btnFilterAll.setText("All (" + all + ")");
+        btnFilterAvailable.setText("Available (" + avail + ")");
+        btnFilterOccupied.setText("Occupied (" + occ + ")");
+        btnFilterMaintenance.setText("Maintenance (" + maint + ")");
+        btnFilterUnderRepair.setText("Under Repair (" + under + ")");
+    }
+    
     // ✅ NEW: Search functionality for rooms
+    // Filters the loaded rooms; the database is only read again once they're stale
     private void searchRooms() {
         String searchText = txtSearch.getText().trim();
-        if (searchText.isEmpty() || searchText.equals("Search rooms...")) {
-            loadRooms();
-            return;
+        if (searchText.equals("Search rooms...")) {
+            searchText = "";
         }
         
-        List<Room> allRooms = roomDAO.getAllRooms();
-        DefaultTableModel model = (DefaultTableModel) tableRooms.getModel();
-        model.setRowCount(0);
-        
-        int totalCount = 0;
-        int availableCount = 0;
-        
-        for (Room room : allRooms) {
-            String roomNumber = room.getRoomNumber() != null ? room.getRoomNumber() : "";
-            String roomType = room.getRoomType() != null ? room.getRoomType() : "";
-            String status = room.getStatus() != null ? room.getStatus() : "";
-            
-            String lowerSearch = searchText.toLowerCase();
-            
-            // Search by room number, room type, or status
-            boolean matchesSearch = roomNumber.toLowerCase().contains(lowerSearch) ||
-                                   roomType.toLowerCase().contains(lowerSearch) ||
-                                   status.toLowerCase().contains(lowerSearch);
-            
-            // Apply current filter
-            boolean matchesFilter = "All".equalsIgnoreCase(currentFilter) ||
-                                   status.equalsIgnoreCase(currentFilter);
-            
-            if (matchesSearch && matchesFilter) {
-                Object[] row = {
-                    room.getId(),
-                    room.getRoomNumber(),
-                    room.getRoomType(),
-                    room.getCapacity(),
-                    String.format("₱%.2f", room.getPrice()),
-                    room.getStatus()
-                };
-                model.addRow(row);
-                totalCount++;
-                
-                if ("Available".equalsIgnoreCase(room.getStatus())) {
-                    availableCount++;
-                }
-            }
+        roomSearch.setFilter(searchText, 5, currentFilter);
+        if (roomSearch.isStale()) {
+            loadRooms();
+        } else {
+            updateRoomLabels();
         }
-        
-        lblTotalRooms.setText(String.valueOf(totalCount));
-        lblAvailableRooms.setText(String.valueOf(availableCount));
     }
     
     private void autoFillRoomDetails() {
@@ -785,18 +742,15 @@ public class AddRoom extends JFrame implements ThemeManager.ThemeChangeListener
         });
     }
 
-    private void loadRoomForEdit(int row) {
-        DefaultTableModel model = (DefaultTableModel) tableRooms.getModel();
-        
-        selectedRoomId = Integer.parseInt(model.getValueAt(row, 0).toString());
-        txtRoomNumber.setText(model.getValueAt(row, 1).toString());
+    private void loadRoomForEdit(int viewRow) {
+        Room room = roomModel.getRow(tableRooms.convertRowIndexToModel(viewRow));
         
-        String roomType = model.getValueAt(row, 2).toString();
-        cmbRoomType.setSelectedItem(roomType);
-        
-        txtCapacity.setText(model.getValueAt(row, 3).toString());
-        txtPrice.setText(model.getValueAt(row, 4).toString().replace("₱", "").replace(",", ""));
-        cmbStatus.setSelectedItem(model.getValueAt(row, 5).toString());
+        selectedRoomId = room.getId();
+        txtRoomNumber.setText(room.getRoomNumber());
+        cmbRoomType.setSelectedItem(room.getRoomType());
+        txtCapacity.setText(String.valueOf(room.getCapacity()));
+        txtPrice.setText(Money.toPlainString(room.getPrice()));
+        cmbStatus.setSelectedItem(room.getStatus());
         
         enterEditMode();
     }
@@ -836,39 +790,70 @@ public class AddRoom extends JFrame implements ThemeManager.ThemeChangeListener
     }
 
     private void loadRooms() {
-        List<Room> rooms = roomDAO.getAllRooms();
-        DefaultTableModel model = (DefaultTableModel) tableRooms.getModel();
-        model.setRowCount(0);
-        
-        int totalCount = rooms.size();
-        int availableCount = 0;
-        
-        for (Room room : rooms) {
-            if (!"All".equalsIgnoreCase(currentFilter)) {
-                if (!room.getStatus().equalsIgnoreCase(currentFilter)) {
-                    continue;
+        roomLoad.submit(roomDAO::getAllRooms, this::showRooms);
+    }
+    
+    private void showRooms(List<Room> rooms) {
+        roomModel.setRows(rooms);
+        roomsChanged();
+    }
+    
+    // After the table's rows changed: search keys, filter button counts and labels
+    private void roomsChanged() {
+        roomSearch.snapshotLoaded();
+        
+        Map<String, Integer> counts = new HashMap<>();
+        counts.put("All", roomModel.getRowCount());
+        for (Room room : roomModel.getRows()) {
+            for (String label : new String[]{"Available", "Occupied", "Maintenance", "Under Repair"}) {
+                if (label.equalsIgnoreCase(room.getStatus())) {
+                    counts.merge(label, 1, Integer::sum);
                 }
             }
-            
-            Object[] row = {
-                room.getId(),
-                room.getRoomNumber(),
-                room.getRoomType(),
-                room.getCapacity(),
-                String.format("₱%.2f", room.getPrice()),
-                room.getStatus()
-            };
-            model.addRow(row);
-            
-            if ("Available".equalsIgnoreCase(room.getStatus())) {
-                availableCount++;
-            }
         }
-        
+        showStatusCounts(counts);
+        updateRoomLabels();
+    }
+    
+    // A room written here or on another screen: patch its row instead of reloading
+    @Override
+    public void onDataChanged(DataChange change) {
+        if (change.getEntity() != DataChange.Entity.ROOM) {
+            return;
+        }
+        switch (change.getOperation()) {
+            case CREATED:
+            case UPDATED:
+                roomModel.put(change.getRoom());
+                break;
+            case DELETED:
+                roomModel.remove(change.getId());
+                break;
+            default:
+                loadRooms();
+                return;
+        }
+        roomsChanged();
+    }
+    
+    @Override
+    public void onShown() {
+        if (roomSearch.isStale()) {
+            loadRooms();
+        }
+    }
+    
+    @Override
+    public void dispose() {
+        ThemeManager.removeThemeChangeListener(this);
+        DataChangeBus.removeListener(this);
+        super.dispose();
+    }
+    
+    private void updateRoomLabels() {
+        int totalCount = roomSearch.hasText() ? roomSearch.getVisibleCount() : tableRooms.getModel().getRowCount();
         lblTotalRooms.setText(String.valueOf(totalCount));
-        lblAvailableRooms.setText(String.valueOf(availableCount));
-        
-        updateFilterButtons(currentFilter);
+        lblAvailableRooms.setText(String.valueOf(roomSearch.countVisible(5, "Available")));
     }
     
     private boolean validateFields() {
@@ -904,7 +889,7 @@ public class AddRoom extends JFrame implements ThemeManager.ThemeChangeListener
         }
         
         try {
-            double price = Double.parseDouble(txtPrice.getText().trim());
+            long price = Money.parse(txtPrice.getText());
             if (price <= 0) {
                 NotificationManager.showWarning(this, "Price must be greater than 0!");
                 txtPrice.requestFocus();
@@ -919,10 +904,11 @@ public class AddRoom extends JFrame implements ThemeManager.ThemeChangeListener
         return true;
     }
     
-    private boolean isDuplicateRoomNumber(String roomNumber) {
+    // Runs on a database thread; excludeId is the room being edited, or -1
+    private boolean isDuplicateRoomNumber(String roomNumber, int excludeId) {
         List<Room> rooms = roomDAO.getAllRooms();
         for (Room room : rooms) {
-            if (isEditMode && room.getId() == selectedRoomId) {
+            if (room.getId() == excludeId) {
                 continue;
             }
             if (room.getRoomNumber().equalsIgnoreCase(roomNumber)) {
@@ -939,28 +925,24 @@ public class AddRoom extends JFrame implements ThemeManager.ThemeChangeListener
         
         try {
             String roomNumber = txtRoomNumber.getText().trim();
-            
-            if (isDuplicateRoomNumber(roomNumber)) {
-                NotificationManager.showError(this, "Room number '" + roomNumber + "' already exists!");
-                return;
-            }
-            
             String roomType = (String) cmbRoomType.getSelectedItem();
             int capacity = Integer.parseInt(txtCapacity.getText().trim());
-            double price = Double.parseDouble(txtPrice.getText().trim());
+            long price = Money.parse(txtPrice.getText());
             String status = (String) cmbStatus.getSelectedItem();
             String description = "";
             
             Room room = new Room(roomNumber, roomType, capacity, price, status, description);
-            boolean added = roomDAO.addRoom(room);
-            
-            if (added) {
-                NotificationManager.showSuccess(this, "Room '" + roomNumber + "' added successfully!");
-                clearFields();
-                loadRooms();
-            } else {
-                NotificationManager.showError(this, "Failed to add room!");
-            }
+            // null = the room number is taken
+            AsyncDatabase.load(() -> isDuplicateRoomNumber(roomNumber, -1) ? null : roomDAO.addRoom(room), added -> {
+                if (added == null) {
+                    NotificationManager.showError(this, "Room number '" + roomNumber + "' already exists!");
+                } else if (added) {
+                    NotificationManager.showSuccess(this, "Room '" + roomNumber + "' added successfully!");
+                    clearFields();
+                } else {
+                    NotificationManager.showError(this, "Failed to add room!");
+                }
+            });
         } catch (NumberFormatException ex) {
             NotificationManager.showError(this, "Invalid capacity or price!");
         }
@@ -978,32 +960,28 @@ public class AddRoom extends JFrame implements ThemeManager.ThemeChangeListener
         
         try {
             String roomNumber = txtRoomNumber.getText().trim();
-            
-            if (isDuplicateRoomNumber(roomNumber)) {
-                NotificationManager.showError(this, 
-                    "Room number '" + roomNumber + "' already exists! Please use a different number.");
-                txtRoomNumber.requestFocus();
-                return;
-            }
-            
             String roomType = (String) cmbRoomType.getSelectedItem();
             int capacity = Integer.parseInt(txtCapacity.getText().trim());
-            double price = Double.parseDouble(txtPrice.getText().trim());
+            long price = Money.parse(txtPrice.getText());
             String status = (String) cmbStatus.getSelectedItem();
             String description = "";
             
             Room room = new Room(selectedRoomId, roomNumber, roomType, capacity, price, status, description);
-            boolean updated = roomDAO.updateRoom(room);
-            
-            if (updated) {
-                NotificationManager.showSuccess(this, "Room '" + roomNumber + "' updated successfully!");
-                exitEditMode();
-                clearFields();
-                loadRooms();
-                tableRooms.clearSelection();
-            } else {
-                NotificationManager.showError(this, "Failed to update room!");
-            }
+            // null = the room number is taken
+            AsyncDatabase.load(() -> isDuplicateRoomNumber(roomNumber, room.getId()) ? null : roomDAO.updateRoom(room), updated -> {
+                if (updated == null) {
+                    NotificationManager.showError(this, 
+                        "Room number '" + roomNumber + "' already exists! Please use a different number.");
+                    txtRoomNumber.requestFocus();
+                } else if (updated) {
+                    NotificationManager.showSuccess(this, "Room '" + roomNumber + "' updated successfully!");
+                    exitEditMode();
+                    clearFields();
+                    tableRooms.clearSelection();
+                } else {
+                    NotificationManager.showError(this, "Failed to update room!");
+                }
+            });
         } catch (NumberFormatException ex) {
             NotificationManager.showError(this, "Invalid capacity or price!");
         }
@@ -1035,17 +1013,17 @@ public class AddRoom extends JFrame implements ThemeManager.ThemeChangeListener
             return;
         }
         
-        boolean deleted = roomDAO.deleteRoom(selectedRoomId);
-        
-        if (deleted) {
-            NotificationManager.showSuccess(this, "Room '" + roomNumber + "' deleted successfully!");
-            exitEditMode();
-            clearFields();
-            loadRooms();
-            tableRooms.clearSelection();
-        } else {
-            NotificationManager.showError(this, "Failed to delete room!");
-        }
+        int roomId = selectedRoomId;
+        AsyncDatabase.load(() -> roomDAO.deleteRoom(roomId), deleted -> {
+            if (deleted) {
+                NotificationManager.showSuccess(this, "Room '" + roomNumber + "' deleted successfully!");
+                exitEditMode();
+                clearFields();
+                tableRooms.clearSelection();
+            } else {
+                NotificationManager.showError(this, "Failed to delete room!");
+            }
+        });
     }
     
     private void clearFields() {
@@ -1062,15 +1040,13 @@ public class AddRoom extends JFrame implements ThemeManager.ThemeChangeListener
     }
     
     private void logout() {
-        int confirm = JOptionPane.showConfirmDialog(this,
+        int confirm = JOptionPane.showConfirmDialog(getContentPane(),
             "Are you sure you want to logout?",
             "Confirm Logout",
             JOptionPane.YES_NO_OPTION);
         
         if (confirm == JOptionPane.YES_OPTION) {
-            ThemeManager.removeThemeChangeListener(this);
-            this.dispose();
-            new Login().setVisible(true);
+            AppShell.logout();
         }
     }
 }
\ No newline at end of file
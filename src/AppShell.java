@@ -0,0 +1,107 @@
+import model.User;
+import util.ThemeManager;
+import javax.swing.*;
+import java.awt.*;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * AppShell - The one application window after login. Each section is a
+ * card; its screen is built on the first visit and kept afterwards, so
+ * switching sections only flips the card. Kept screens stay current through
+ * DataChangeBus; Screen.onShown lets one re-check data that may have been
+ * changed outside the app.
+ *
+ * The screens are still JFrame subclasses: their frame is never shown, the
+ * shell hosts its content pane. Use from the EDT only.
+ */
+public class AppShell extends JFrame {
+
+    public enum Section {
+        DASHBOARD(Dashboard::new),
+        TENANTS(HouseRent::new),
+        ROOMS(AddRoom::new),
+        PAYMENTS(PaymentRecords::new),
+        SETTINGS(Settings::new);
+
+        private final Function<User, JFrame> factory;
+
+        Section(Function<User, JFrame> factory) {
+            this.factory = factory;
+        }
+    }
+
+    // Implemented by screens that refresh something when their card is shown again
+    public interface Screen {
+        void onShown();
+    }
+
+    private static AppShell current;
+
+    private final User user;
+    private final CardLayout cards = new CardLayout();
+    private final JPanel deck = new JPanel(cards);
+    private final Map<Section, JFrame> screens = new EnumMap<>(Section.class);
+
+    private AppShell(User user) {
+        this.user = user;
+        setTitle("RentEase");
+        setExtendedState(JFrame.MAXIMIZED_BOTH);
+        setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
+        setMinimumSize(new Dimension(1024, 700));
+        deck.setBackground(ThemeManager.getMainPanelColor());
+        setContentPane(deck);
+    }
+
+    /**
+     * Open the window for a logged-in user on the Dashboard
+     */
+    public static void open(User user) {
+        current = new AppShell(user);
+        current.showSection(Section.DASHBOARD);
+        current.setLocationRelativeTo(null);
+        current.setVisible(true);
+    }
+
+    public static void show(Section section) {
+        if (current != null) {
+            current.showSection(section);
+        }
+    }
+
+    /**
+     * Dispose every screen built so far, close the window and go back to Login
+     */
+    public static void logout() {
+        if (current != null) {
+            for (JFrame screen : current.screens.values()) {
+                screen.dispose();
+            }
+            current.screens.clear();
+            current.dispose();
+            current = null;
+        }
+        Login login = new Login();
+        login.setExtendedState(JFrame.MAXIMIZED_BOTH);
+        login.setVisible(true);
+    }
+
+    private void showSection(Section section) {
+        long start = System.nanoTime();
+        JFrame screen = screens.get(section);
+        boolean built = screen == null;
+        if (built) {
+            screen = section.factory.apply(user);
+            screens.put(section, screen);
+            deck.add(screen.getContentPane(), section.name());
+        }
+        cards.show(deck, section.name());
+        setTitle(screen.getTitle());
+        if (!built && screen instanceof Screen) {
+            ((Screen) screen).onShown();
+        }
+        System.out.printf("🧭 %s %s in %d ms%n", section, built ? "built" : "shown",
+                (System.nanoTime() - start) / 1_000_000);
+    }
+}
@@ -1,369 +1,330 @@
-import java.sql.*;
-import java.time.LocalDate;
-import java.time.YearMonth;
-import java.time.format.DateTimeFormatter;
-import java.util.Timer;
-import java.util.TimerTask;
-
-/**
- * ✅ Recommendation #3: Automatic Billing Scheduler
- * Generates monthly payment records automatically for all active tenants
- * WITH AUTOMATIC DATE CALCULATIONS
- */
-public class BillingScheduler {
-    private Timer timer;
-    private static BillingScheduler instance;
-    
-    private final String url = "jdbc:mysql://localhost/houserent";
-    private final String user = "root";
-    private final String pass = "";
-    
-    private BillingScheduler() {
-        timer = new Timer(true); // Daemon thread
-    }
-    
-    public static BillingScheduler getInstance() {
-        if (instance == null) {
-            instance = new BillingScheduler();
-        }
-        return instance;
-    }
-    
-    /**
-     * Start the automatic billing scheduler
-     * Checks daily if bills need to be generated
-     */
-    public void start() {
-        if (!isBillingEnabled()) {
-            System.out.println("⚠️ Automatic billing is disabled in settings");
-            return;
-        }
-        
-        // Run immediately on startup
-        checkAndGenerateBills();
-        
-        // Schedule to run every day at midnight (24 hours = 86400000 ms)
-        timer.scheduleAtFixedRate(new TimerTask() {
-            @Override
-            public void run() {
-                checkAndGenerateBills();
-            }
-        }, 24 * 60 * 60 * 1000, 24 * 60 * 60 * 1000);
-        
-        System.out.println("✅ Billing scheduler started successfully");
-    }
-    
-    /**
-     * Stop the billing scheduler
-     */
-    public void stop() {
-        if (timer != null) {
-            timer.cancel();
-            System.out.println("🛑 Billing scheduler stopped");
-        }
-    }
-    
-    /**
-     * Check if today is billing day and generate bills
-     */
-    private void checkAndGenerateBills() {
-        try {
-            int billingDay = getBillingDay();
-            LocalDate today = LocalDate.now();
-            
-            // Check if today is the billing day
-            if (today.getDayOfMonth() == billingDay) {
-                System.out.println("📅 Today is billing day! Generating bills...");
-                generateMonthlyBills();
-            } else {
-                System.out.println("⏳ Not billing day yet. Next billing: Day " + billingDay);
-            }
-        } catch (Exception e) {
-            System.err.println("❌ Error checking billing schedule: " + e.getMessage());
-            e.printStackTrace();
-        }
-    }
-    
-    /**
-     * Generate monthly bills for all active tenants
-     * ✅ WITH AUTOMATIC DATE CALCULATIONS
-     */
-    public void generateMonthlyBills() {
-        Connection conn = null;
-        PreparedStatement pstmt = null;
-        ResultSet rs = null;
-        int billsGenerated = 0;
-        
-        try {
-            Class.forName("com.mysql.cj.jdbc.Driver");
-            conn = DriverManager.getConnection(url, user, pass);
-            
-            // Get all active tenants from records table
-            String query = "SELECT r.id, r.name, r.houseno, r.payment " +
-                          "FROM records r " +
-                          "INNER JOIN rooms rm ON r.houseno = rm.room_number " +
-                          "WHERE rm.status = 'Occupied'";
-            
-            pstmt = conn.prepareStatement(query);
-            rs = pstmt.executeQuery();
-            
-            LocalDate today = LocalDate.now();
-            YearMonth currentMonth = YearMonth.from(today);
-            String monthName = today.format(DateTimeFormatter.ofPattern("MMMM yyyy"));
-            
-            // ✅ AUTOMATIC DATE CALCULATIONS
-            int billingDay = getBillingDay();
-            
-            // Due date: billing day of NEXT month
-            LocalDate dueDate = today.withDayOfMonth(billingDay).plusMonths(1);
-            
-            while (rs.next()) {
-                int tenantId = rs.getInt("id");
-                String tenantName = rs.getString("name");
-                String roomNo = String.valueOf(rs.getInt("houseno"));
-                double monthlyRate = rs.getDouble("payment");
-                
-                // Check if bill already exists for this tenant this month
-                if (!billExistsForTenantAndMonth(conn, tenantName, roomNo, monthName)) {
-                    // Generate new bill with automatic due date
-                    boolean created = createPaymentRecord(conn, tenantName, roomNo, monthlyRate, monthName, dueDate);
-                    
-                    if (created) {
-                        billsGenerated++;
-                        System.out.println("✅ Bill generated for: " + tenantName + " (Room " + roomNo + ") - ₱" + monthlyRate + " | Due: " + dueDate);
-                    }
-                }
-            }
-            
-            System.out.println("🎉 Automatic billing complete! Generated " + billsGenerated + " bills.");
-            
-        } catch (Exception e) {
-            System.err.println("❌ Error generating monthly bills: " + e.getMessage());
-            e.printStackTrace();
-        } finally {
-            try {
-                if (rs != null) rs.close();
-                if (pstmt != null) pstmt.close();
-                if (conn != null) conn.close();
-            } catch (SQLException e) {
-                e.printStackTrace();
-            }
-        }
-    }
-    
-    /**
-     * Check if a bill already exists for tenant/month
-     */
-    private boolean billExistsForTenantAndMonth(Connection conn, String tenantName, String roomNo, String month) {
-        PreparedStatement pstmt = null;
-        ResultSet rs = null;
-        
-        try {
-            String query = "SELECT COUNT(*) FROM payments " +
-                          "WHERE (tenant_name = ? OR room_number = ?) AND month = ?";
-            
-            pstmt = conn.prepareStatement(query);
-            pstmt.setString(1, tenantName);
-            pstmt.setString(2, roomNo);
-            pstmt.setString(3, month);
-            
-            rs = pstmt.executeQuery();
-            if (rs.next()) {
-                return rs.getInt(1) > 0;
-            }
-        } catch (SQLException e) {
-            System.err.println("❌ Error checking existing bill: " + e.getMessage());
-        } finally {
-            try {
-                if (rs != null) rs.close();
-                if (pstmt != null) pstmt.close();
-            } catch (SQLException e) {
-                e.printStackTrace();
-            }
-        }
-        return false;
-    }
-    
-    /**
-     * Create a payment record with AUTOMATIC DUE DATE
-     */
-    private boolean createPaymentRecord(Connection conn, String tenantName, String roomNo, 
-                                       double amount, String month, LocalDate dueDate) {
-        PreparedStatement pstmt = null;
-        
-        try {
-            // ✅ Insert with automatic due_date calculation
-            String query = "INSERT INTO payments (tenant_name, room_number, total_amount, " +
-                          "amount_paid, payment_type, remaining_balance, month, payment_date, status, notes) " +
-                          "VALUES (?, ?, ?, 0.00, 'Full Payment', ?, ?, NULL, 'Pending', 'Auto-generated')";
-            
-            pstmt = conn.prepareStatement(query);
-            pstmt.setString(1, tenantName);
-            pstmt.setString(2, roomNo);
-            pstmt.setDouble(3, amount);
-            pstmt.setDouble(4, amount); // remaining_balance = total_amount
-            pstmt.setString(5, month);
-            
-            int rows = pstmt.executeUpdate();
-            return rows > 0;
-            
-        } catch (SQLException e) {
-            System.err.println("❌ Error creating payment record: " + e.getMessage());
-            return false;
-        } finally {
-            try {
-                if (pstmt != null) pstmt.close();
-            } catch (SQLException e) {
-                e.printStackTrace();
-            }
-        }
-    }
-    
-    /**
-     * ✅ NEW: Automatically update payment dates when tenant pays
-     */
-    public boolean recordPayment(int paymentId, double amountPaid) {
-        Connection conn = null;
-        PreparedStatement pstmt = null;
-        ResultSet rs = null;
-        
-        try {
-            Class.forName("com.mysql.cj.jdbc.Driver");
-            conn = DriverManager.getConnection(url, user, pass);
-            
-            // Get current payment details
-            String selectQuery = "SELECT total_amount, amount_paid FROM payments WHERE payment_id = ?";
-            pstmt = conn.prepareStatement(selectQuery);
-            pstmt.setInt(1, paymentId);
-            rs = pstmt.executeQuery();
-            
-            if (rs.next()) {
-                double totalAmount = rs.getDouble("total_amount");
-                double currentPaid = rs.getDouble("amount_paid");
-                double newTotalPaid = currentPaid + amountPaid;
-                double newBalance = totalAmount - newTotalPaid;
-                
-                rs.close();
-                pstmt.close();
-                
-                // ✅ Automatically set paid_date to TODAY
-                LocalDate today = LocalDate.now();
-                
-                // Determine new status
-                String newStatus;
-                if (newBalance <= 0) {
-                    newStatus = "Fully Paid";
-                } else if (newTotalPaid > 0) {
-                    newStatus = "Partial Payment";
-                } else {
-                    newStatus = "Pending";
-                }
-                
-                // Update payment record
-                String updateQuery = "UPDATE payments SET amount_paid = ?, remaining_balance = ?, " +
-                                    "payment_date = ?, status = ? WHERE payment_id = ?";
-                pstmt = conn.prepareStatement(updateQuery);
-                pstmt.setDouble(1, newTotalPaid);
-                pstmt.setDouble(2, newBalance);
-                pstmt.setDate(3, Date.valueOf(today));
-                pstmt.setString(4, newStatus);
-                pstmt.setInt(5, paymentId);
-                
-                int rows = pstmt.executeUpdate();
-                return rows > 0;
-            }
-            
-        } catch (Exception e) {
-            System.err.println("❌ Error recording payment: " + e.getMessage());
-        } finally {
-            try {
-                if (rs != null) rs.close();
-                if (pstmt != null) pstmt.close();
-                if (conn != null) conn.close();
-            } catch (Exception e) {
-                e.printStackTrace();
-            }
-        }
-        return false;
-    }
-    
-    /**
-     * Get billing day from settings
-     */
-    private int getBillingDay() {
-        return Integer.parseInt(getSetting("billing_day", "1"));
-    }
-    
-    /**
-     * Check if billing is enabled
-     */
-    private boolean isBillingEnabled() {
-        return Boolean.parseBoolean(getSetting("billing_enabled", "true"));
-    }
-    
-    /**
-     * Get a setting value from database
-     */
-    private String getSetting(String settingName, String defaultValue) {
-        Connection conn = null;
-        PreparedStatement pstmt = null;
-        ResultSet rs = null;
-        
-        try {
-            Class.forName("com.mysql.cj.jdbc.Driver");
-            conn = DriverManager.getConnection(url, user, pass);
-            
-            String query = "SELECT setting_value FROM billing_settings WHERE setting_name = ?";
-            pstmt = conn.prepareStatement(query);
-            pstmt.setString(1, settingName);
-            rs = pstmt.executeQuery();
-            
-            if (rs.next()) {
-                return rs.getString("setting_value");
-            }
-        } catch (Exception e) {
-            System.err.println("❌ Error getting setting: " + e.getMessage());
-        } finally {
-            try {
-                if (rs != null) rs.close();
-                if (pstmt != null) pstmt.close();
-                if (conn != null) conn.close();
-            } catch (Exception e) {
-                e.printStackTrace();
-            }
-        }
-        return defaultValue;
-    }
-    
-    /**
-     * Update a setting value (for Settings UI)
-     */
-    public boolean updateSetting(String settingName, String settingValue) {
-        Connection conn = null;
-        PreparedStatement pstmt = null;
-        
-        try {
-            Class.forName("com.mysql.cj.jdbc.Driver");
-            conn = DriverManager.getConnection(url, user, pass);
-            
-            String query = "UPDATE billing_settings SET setting_value = ? WHERE setting_name = ?";
-            pstmt = conn.prepareStatement(query);
-            pstmt.setString(1, settingValue);
-            pstmt.setString(2, settingName);
-            
-            int rows = pstmt.executeUpdate();
-            return rows > 0;
-            
-        } catch (Exception e) {
-            System.err.println("❌ Error updating setting: " + e.getMessage());
-            return false;
-        } finally {
-            try {
-                if (pstmt != null) pstmt.close();
-                if (conn != null) conn.close();
-            } catch (Exception e) {
-                e.printStackTrace();
-            }
-        }
-    }
-}
\ No newline at end of file
+import dao.BillingDAO;
+import dao.BillingSettingsStore;
+import dao.DataChangeBus;
+import model.BillingSettings;
+import model.DataChange;
+import model.BillingPeriod;
+import model.BillingRun;
+import model.Money;
+import model.Payment;
+import util.DatabaseConnection;
+import java.sql.*;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * ✅ Recommendation #3: Automatic Billing Scheduler
+ * Generates monthly payment records automatically for all active tenants
+ * WITH AUTOMATIC DATE CALCULATIONS
+ *
+ * A period's bills are due from midnight of its billing day (billing_day,
+ * or the month's last day if shorter). The last billed period is kept in
+ * billing_settings (see BillingDAO.catchUp), so on start every period that
+ * came due while the app was closed is billed in one run; then the
+ * scheduler sleeps until the next billing day. It wakes at least hourly
+ * and re-plans against the wall clock, so a suspended laptop or a clock
+ * change can only delay a run, never skip one. A run that fails stays
+ * due and is retried at the next wake-up. While billing is switched off
+ * each due wake-up moves the watermark instead (BillingDAO.skipThrough),
+ * so switching it back on bills from the next billing day onwards.
+ *
+ * Settings come from BillingSettingsStore's snapshot. Each wake-up does
+ * its one-query version check; when billing_day or billing_enabled change
+ * (here or in another copy of the app) the run is re-planned at once.
+ */
+public class BillingScheduler {
+    private static final long MAX_SLEEP_MS = 60 * 60 * 1000;
+
+    private static BillingScheduler instance;
+    private final BillingDAO billingDAO;
+    private final Supplier<BillingSettings> settings;
+    private final Runnable refreshSettings;
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "billing-scheduler");
+        t.setDaemon(true);
+        return t;
+    });
+
+    // guarded by this
+    private boolean running;
+    private ScheduledFuture<?> wakeUp;
+    private LocalDateTime nextRunAt;
+    
+    private BillingScheduler() {
+        this(new BillingDAO(), BillingSettingsStore::current, BillingSettingsStore::refreshIfChanged);
+        BillingSettingsStore.addListener(this::onSettingsChanged);
+    }
+    
+    // For tests: a fake DAO and fixed settings instead of the database
+    BillingScheduler(BillingDAO billingDAO, Supplier<BillingSettings> settings, Runnable refreshSettings) {
+        this.billingDAO = billingDAO;
+        this.settings = settings;
+        this.refreshSettings = refreshSettings;
+    }
+    
+    // synchronized: Startup asks for it off the EDT while the login frame is up
+    public static synchronized BillingScheduler getInstance() {
+        if (instance == null) {
+            instance = new BillingScheduler();
+        }
+        return instance;
+    }
+    
+    /**
+     * Start the automatic billing scheduler: catch up on missed periods
+     * now, then run on every billing day. Returns at once; the work runs
+     * on the scheduler's own thread.
+     */
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        nextRunAt = null;
+        wakeUp = executor.schedule(this::wake, 0, TimeUnit.MILLISECONDS);
+        System.out.println("✅ Billing scheduler started successfully");
+    }
+    
+    /**
+     * Stop the billing scheduler
+     */
+    public synchronized void stop() {
+        running = false;
+        if (wakeUp != null) {
+            wakeUp.cancel(false);
+            wakeUp = null;
+        }
+        System.out.println("🛑 Billing scheduler stopped");
+    }
+    
+    // Bill if the planned run time has come, then plan the next wake-up
+    void wake() {
+        boolean retry = false;
+        try {
+            refreshSettings.run();   // may re-plan through onSettingsChanged
+            LocalDateTime due;
+            synchronized (this) {
+                if (!running) {
+                    return;
+                }
+                due = nextRunAt;
+            }
+            if (due == null || !LocalDateTime.now().isBefore(due)) {
+                retry = true;   // until the run succeeds
+                retry = isBillingEnabled() ? !catchUp() : !skipDisabledPeriods();
+            }
+        } catch (Exception e) {
+            System.err.println("❌ Error checking billing schedule: " + e.getMessage());
+            e.printStackTrace();
+        } finally {
+            scheduleNext(retry);
+        }
+    }
+    
+    // retry: the run failed, so it stays due and the next (at most hourly) wake-up tries again
+    private synchronized void scheduleNext(boolean retry) {
+        if (!running) {
+            return;
+        }
+        if (wakeUp != null) {
+            wakeUp.cancel(false);   // a re-plan queued while this wake-up ran
+        }
+        LocalDateTime now = LocalDateTime.now();
+        long delay;
+        if (retry) {
+            nextRunAt = null;
+            delay = MAX_SLEEP_MS;
+        } else {
+            LocalDateTime next = nextRunTime(now, getBillingDay());
+            if (!next.equals(nextRunAt)) {
+                System.out.println("⏳ Next billing run: " + next);
+            }
+            nextRunAt = next;
+            delay = Math.min(Duration.between(now, next).toMillis(), MAX_SLEEP_MS);
+        }
+        wakeUp = executor.schedule(this::wake, Math.max(delay, 0), TimeUnit.MILLISECONDS);
+    }
+    
+    // A new billing day or on/off switch: drop the planned run and decide again now
+    private synchronized void onSettingsChanged(BillingSettings before, BillingSettings after) {
+        if (!running || !before.scheduleDiffers(after)) {
+            return;
+        }
+        System.out.println("🔁 Billing settings changed; re-planning");
+        nextRunAt = null;
+        if (wakeUp != null) {
+            wakeUp.cancel(false);
+        }
+        wakeUp = executor.schedule(this::wake, 0, TimeUnit.MILLISECONDS);
+    }
+    
+    // Planned run time; null while a run is due (not yet run, or failed)
+    synchronized LocalDateTime getNextRunAt() {
+        return nextRunAt;
+    }
+    
+    /**
+     * Bill every period after the last billed one that is due today;
+     * false if the run failed
+     */
+    private boolean catchUp() {
+        YearMonth through = latestDuePeriod(LocalDate.now(), getBillingDay());
+        List<BillingRun> runs = billingDAO.catchUp(through);
+        if (runs == null) {
+            System.err.println("❌ Billing catch-up failed; will retry at the next wake-up");
+            return false;
+        }
+        if (runs.isEmpty()) {
+            System.out.println("✅ Billing is up to date through " + BillingPeriod.format(through));
+        } else {
+            for (BillingRun run : runs) {
+                System.out.println("🎉 Automatic billing complete! " + run);
+            }
+        }
+        return true;
+    }
+    
+    /**
+     * Billing is off: mark the periods due today as handled, so switching
+     * it back on doesn't back-bill them; false if that failed
+     */
+    private boolean skipDisabledPeriods() {
+        YearMonth through = latestDuePeriod(LocalDate.now(), getBillingDay());
+        System.out.println("⚠️ Automatic billing is disabled in settings; skipping through " + BillingPeriod.format(through));
+        if (!billingDAO.skipThrough(through)) {
+            System.err.println("❌ Could not record the skipped periods; will retry at the next wake-up");
+            return false;
+        }
+        return true;
+    }
+    
+    /**
+     * Generate the current month's bills now (skips tenants already billed)
+     * ✅ WITH AUTOMATIC DATE CALCULATIONS
+     * One set-based insert in one transaction (see BillingDAO)
+     */
+    public BillingRun generateMonthlyBills() {
+        LocalDate today = LocalDate.now();
+        YearMonth period = YearMonth.from(today);
+        
+        // Due date: billing day of NEXT month
+        LocalDate dueDate = billingDate(period.plusMonths(1), getBillingDay());
+        
+        BillingRun run = billingDAO.generateMonthlyBills(period);
+        if (run != null) {
+            System.out.println("🎉 Billing complete! " + run + " | Due: " + dueDate);
+        }
+        return run;
+    }
+    
+    // The day a period's bills are due; billing day 31 is the 30th in April, the 28th/29th in February
+    static LocalDate billingDate(YearMonth period, int billingDay) {
+        return period.atDay(Math.max(1, Math.min(billingDay, period.lengthOfMonth())));
+    }
+    
+    // Newest period whose billing day has come
+    static YearMonth latestDuePeriod(LocalDate today, int billingDay) {
+        YearMonth current = YearMonth.from(today);
+        return today.isBefore(billingDate(current, billingDay)) ? current.minusMonths(1) : current;
+    }
+    
+    // Midnight of the first billing day after now
+    static LocalDateTime nextRunTime(LocalDateTime now, int billingDay) {
+        YearMonth period = YearMonth.from(now);
+        LocalDateTime next = billingDate(period, billingDay).atStartOfDay();
+        return next.isAfter(now) ? next : billingDate(period.plusMonths(1), billingDay).atStartOfDay();
+    }
+    
+    /**
+     * ✅ NEW: Automatically update payment dates when tenant pays
+     */
+    public boolean recordPayment(int paymentId, long amountPaid) {
+        Connection conn = null;
+        PreparedStatement pstmt = null;
+        ResultSet rs = null;
+        
+        try {
+            conn = DatabaseConnection.getConnection();
+            
+            // Get current payment details
+            String selectQuery = "SELECT total_amount, amount_paid FROM payments WHERE payment_id = ?";
+            pstmt = conn.prepareStatement(selectQuery);
+            pstmt.setInt(1, paymentId);
+            rs = pstmt.executeQuery();
+            
+            if (rs.next()) {
+                // Exact centavo arithmetic (see Money), no floating point drift
+                long totalAmount = Money.fromDecimal(rs.getBigDecimal("total_amount"));
+                long currentPaid = Money.fromDecimal(rs.getBigDecimal("amount_paid"));
+                long newTotalPaid = Money.add(currentPaid, amountPaid);
+                long newBalance = Money.subtract(totalAmount, newTotalPaid);
+                
+                rs.close();
+                pstmt.close();
+                
+                // ✅ Automatically set paid_date to TODAY
+                LocalDate today = LocalDate.now();
+                
+                // Determine new status
+                String newStatus = Payment.statusFor(totalAmount, newTotalPaid);
+                
+                // Update payment record
+                String updateQuery = "UPDATE payments SET amount_paid = ?, remaining_balance = ?, " +
+                                    "payment_date = ?, status = ? WHERE payment_id = ?";
+                pstmt = conn.prepareStatement(updateQuery);
+                pstmt.setBigDecimal(1, Money.toDecimal(newTotalPaid));
+                pstmt.setBigDecimal(2, Money.toDecimal(newBalance));
+                pstmt.setDate(3, Date.valueOf(today));
+                pstmt.setString(4, newStatus);
+                pstmt.setInt(5, paymentId);
+                
+                int rows = pstmt.executeUpdate();
+                if (rows > 0) {
+                    DataChangeBus.publish(DataChange.invalidated(DataChange.Entity.PAYMENT));
+                }
+                return rows > 0;
+            }
+            
+        } catch (Exception e) {
+            System.err.println("❌ Error recording payment: " + e.getMessage());
+        } finally {
+            try {
+                if (rs != null) rs.close();
+                if (pstmt != null) pstmt.close();
+                if (conn != null) conn.close();
+            } catch (Exception e) {
+                e.printStackTrace();
+            }
+        }
+        return false;
+    }
+    
+    /**
+     * Get billing day from settings
+     */
+    private int getBillingDay() {
+        return settings.get().getBillingDay();
+    }
+    
+    /**
+     * Check if billing is enabled
+     */
+    private boolean isBillingEnabled() {
+        return settings.get().isBillingEnabled();
+    }
+    
+    /**
+     * Update a setting value (for Settings UI)
+     */
+    public boolean updateSetting(String settingName, String settingValue) {
+        return BillingSettingsStore.update(settingName, settingValue);
+    }
+}
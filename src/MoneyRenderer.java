@@ -0,0 +1,42 @@
+import model.Money;
+import javax.swing.SwingConstants;
+import javax.swing.table.DefaultTableCellRenderer;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * MoneyRenderer - Shows a Long centavos cell as "₱1234.50". Amounts repeat
+ * a lot (every tenant of a room pays the same rent), so the formatted text
+ * is cached per amount instead of rebuilt on every paint. Share one
+ * instance across a table's money columns; EDT only.
+ */
+class MoneyRenderer extends DefaultTableCellRenderer {
+    private static final int MAX_CACHED = 1024;
+
+    private final Map<Long, String> formatted = new HashMap<>();
+
+    MoneyRenderer() {
+        setHorizontalAlignment(SwingConstants.CENTER);
+    }
+
+    @Override
+    protected void setValue(Object value) {
+        if (value instanceof Long) {
+            setText(format((Long) value));
+        } else {
+            super.setValue(value);
+        }
+    }
+
+    private String format(Long centavos) {
+        String text = formatted.get(centavos);
+        if (text == null) {
+            if (formatted.size() >= MAX_CACHED) {
+                formatted.clear();
+            }
+            text = Money.format(centavos);
+            formatted.put(centavos, text);
+        }
+        return text;
+    }
+}
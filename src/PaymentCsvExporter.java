@@ -0,0 +1,48 @@
+import dao.PaymentDAO;
+import model.PaymentFilter;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * PaymentCsvExporter - Writes the payments matching a filter to a CSV file.
+ * Rows are streamed from the database straight into the file, so the
+ * export runs in constant memory however many payments there are.
+ */
+class PaymentCsvExporter {
+    static final String HEADER = "Tenant Name,Room No,Month,Total Amount,Amount Paid,Balance,Due Date,Paid Date,Status,Notes";
+
+    /**
+     * Export to file and return the number of rows written
+     */
+    static long export(PaymentDAO paymentDAO, PaymentFilter filter, Path file) throws IOException {
+        long[] written = {0};
+        boolean completed;
+        try (BufferedWriter out = Files.newBufferedWriter(file)) {
+            out.write(HEADER);
+            out.newLine();
+            completed = paymentDAO.forEachPayment(filter, p -> {
+                Object[] row = PaymentTableModel.toRow(p);
+                try {
+                    for (int j = 1; j < 11; j++) {
+                        Object value = row[j];
+                        out.write(value != null ? value.toString() : "");
+                        if (j < 10) out.write(",");
+                    }
+                    out.newLine();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                written[0]++;
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        if (!completed) {
+            throw new IOException("Could not read payments from the database (" + written[0] + " rows written)");
+        }
+        return written[0];
+    }
+}
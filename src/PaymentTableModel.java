@@ -0,0 +1,329 @@
+import dao.PaymentDAO;
+import model.Money;
+import model.Payment;
+import model.PaymentCursor;
+import model.PaymentFilter;
+import javax.swing.SwingWorker;
+import javax.swing.table.AbstractTableModel;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * PaymentTableModel - Payment history for the Payment Records table, loaded
+ * page by page as rows scroll into view instead of all at once.
+ *
+ * The row count comes from the stats query; pages are fetched in the
+ * background with PaymentDAO's keyset paging and only the most recently
+ * viewed pages are kept, so memory stays bounded however long the history is.
+ *
+ * A page needs the cursor of the row before it. Scrolling down, that comes
+ * from the page above. A scrollbar jump finds it with one key-only seek
+ * from the nearest known page start; only one seek runs at a time and the
+ * pages waiting for it share its result, so a jump costs one query, not one
+ * per page skipped. A page that comes back short means rows were deleted
+ * since the count: it isn't kept, and onStale re-counts instead.
+ */
+class PaymentTableModel extends AbstractTableModel {
+    static final int PAGE_SIZE = 100;
+    private static final int MAX_CACHED_PAGES = 10;   // window of 1000 rows
+
+    static final String[] COLUMNS = {"ID", "Tenant Name", "Room No", "Month", "Total Amount", "Amount Paid",
+        "Balance", "Due Date", "Paid Date", "Status", "Notes", "Actions"};
+
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+
+    private final PaymentDAO paymentDAO;
+    private final Runnable onStale;
+    private PaymentFilter filter = PaymentFilter.all();
+    private int rowCount;
+    private int generation;   // bumped on reset so late pages from an old filter are dropped
+
+    // Loaded pages, least recently used first
+    private final LinkedHashMap<Integer, List<Payment>> pages = new LinkedHashMap<Integer, List<Payment>>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Integer, List<Payment>> eldest) {
+            return size() > MAX_CACHED_PAGES;
+        }
+    };
+
+    // pageStarts.get(p) = cursor the page p seeks after (null for page 0); only keys, so cheap to keep
+    private final TreeMap<Integer, PaymentCursor> pageStarts = new TreeMap<>();
+    private final Set<Integer> loading = new HashSet<>();
+    private final TreeSet<Integer> waiting = new TreeSet<>();   // wanted, start not known yet
+    private boolean seeking;
+    private boolean staleReported;
+
+    /**
+     * onStale runs (once per reset) when the rows no longer match the count;
+     * it should re-count and reset
+     */
+    PaymentTableModel(PaymentDAO paymentDAO, Runnable onStale) {
+        this.paymentDAO = paymentDAO;
+        this.onStale = onStale;
+        pageStarts.put(0, null);
+    }
+
+    /**
+     * Show a new filter; rowCount is the number of matching payments
+     */
+    void reset(PaymentFilter filter, int rowCount) {
+        this.filter = filter;
+        this.rowCount = rowCount;
+        generation++;
+        pages.clear();
+        pageStarts.clear();
+        pageStarts.put(0, null);
+        loading.clear();
+        waiting.clear();
+        seeking = false;
+        staleReported = false;
+        fireTableDataChanged();
+    }
+
+    PaymentFilter getFilter() {
+        return filter;
+    }
+
+    /**
+     * The loaded copy of a payment, or null if its page isn't loaded
+     */
+    Payment findLoaded(int paymentId) {
+        for (List<Payment> page : pages.values()) {
+            for (Payment p : page) {
+                if (p.getId() == paymentId) {
+                    return p;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Swap in the new state of a loaded payment and repaint its row. Only
+     * for edits that keep the row in the same place under the same filter.
+     */
+    boolean replaceLoaded(Payment payment) {
+        for (Map.Entry<Integer, List<Payment>> entry : pages.entrySet()) {
+            List<Payment> page = entry.getValue();
+            for (int i = 0; i < page.size(); i++) {
+                if (page.get(i).getId() == payment.getId()) {
+                    page.set(i, payment);
+                    int row = entry.getKey() * PAGE_SIZE + i;
+                    fireTableRowsUpdated(row, row);
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Payment shown on a row, or null while its page is still loading
+     */
+    Payment getPaymentAt(int row) {
+        List<Payment> page = pages.get(row / PAGE_SIZE);
+        if (page == null) {
+            requestPage(row / PAGE_SIZE);
+            return null;
+        }
+        int offset = row % PAGE_SIZE;
+        return offset < page.size() ? page.get(offset) : null;
+    }
+
+    @Override
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    @Override
+    public int getColumnCount() {
+        return COLUMNS.length;
+    }
+
+    @Override
+    public String getColumnName(int column) {
+        return COLUMNS[column];
+    }
+
+    // Amounts are Long centavos (MoneyRenderer formats them); everything else is text or an id
+    @Override
+    public Class<?> getColumnClass(int column) {
+        switch (column) {
+            case 0: return Integer.class;
+            case 4:
+            case 5:
+            case 6: return Long.class;
+            default: return String.class;
+        }
+    }
+
+    @Override
+    public boolean isCellEditable(int row, int column) {
+        return false;
+    }
+
+    @Override
+    public Object getValueAt(int row, int column) {
+        Payment p = getPaymentAt(row);
+        if (p == null) {
+            return column == 1 && !pages.containsKey(row / PAGE_SIZE) ? "Loading..." : "";
+        }
+        return valueAt(p, column);
+    }
+
+    // One cell, typed as getColumnClass says; built per cell so painting a row allocates no row array
+    static Object valueAt(Payment p, int column) {
+        switch (column) {
+            case 0: return p.getId();
+            case 1: return p.getTenantName() != null ? p.getTenantName() : "N/A";
+            case 2: return p.getRoomNumber() != null ? p.getRoomNumber() : "";
+            case 3: return p.getMonth() != null ? p.getMonth() : "N/A";
+            case 4: return p.getTotalAmount();
+            case 5: return p.getAmountPaid();
+            case 6: return p.getRemainingBalance();
+            case 7: return "2025-01-31";
+            case 8: return p.getPaymentDate() != null ? p.getPaymentDate().format(DATE_FORMAT) : "-";
+            case 9: return p.getStatus() != null ? p.getStatus() : "Pending";
+            case 10: return p.getNotes() != null && !p.getNotes().isEmpty() ? p.getNotes() : "-";
+            case 11: return "Edit";
+            default: return null;
+        }
+    }
+
+    /**
+     * Cells for one payment as text, amounts formatted (used by the CSV export)
+     */
+    static Object[] toRow(Payment p) {
+        Object[] row = new Object[COLUMNS.length];
+        for (int column = 0; column < row.length; column++) {
+            Object value = valueAt(p, column);
+            row[column] = value instanceof Long ? Money.format((Long) value) : value;
+        }
+        return row;
+    }
+
+    // Rows show "Loading..." until their page arrives
+    private void requestPage(int page) {
+        // After a short page nothing more is fetched until the re-count resets the model
+        if (staleReported || loading.contains(page) || waiting.contains(page)) {
+            return;
+        }
+        if (pageStarts.containsKey(page)) {
+            loadPage(page);
+        } else {
+            waiting.add(page);
+            startPending();
+        }
+    }
+
+    /**
+     * Load the waiting pages whose start is now known; seek for the first
+     * of the rest unless a seek is running or the page above it is loading
+     * (its last row will give the start)
+     */
+    private void startPending() {
+        for (Integer page : new ArrayList<>(waiting)) {
+            if (pageStarts.containsKey(page)) {
+                waiting.remove(page);
+                loadPage(page);
+            }
+        }
+        if (seeking || waiting.isEmpty() || loading.contains(waiting.first() - 1)) {
+            return;
+        }
+        seek(waiting.first());
+    }
+
+    // One key-only OFFSET query from the nearest known page start straight to the target
+    private void seek(int page) {
+        seeking = true;
+        final int requestGeneration = generation;
+        final PaymentFilter requestFilter = filter;
+        final Map.Entry<Integer, PaymentCursor> known = pageStarts.floorEntry(page);
+        final int rowsBetween = (page - known.getKey()) * PAGE_SIZE;
+
+        new SwingWorker<PaymentCursor, Void>() {
+            @Override
+            protected PaymentCursor doInBackground() {
+                return paymentDAO.findPageEnd(requestFilter, known.getValue(), rowsBetween);
+            }
+
+            @Override
+            protected void done() {
+                if (requestGeneration != generation) {
+                    return;
+                }
+                seeking = false;
+                PaymentCursor start;
+                try {
+                    start = get();
+                } catch (Exception e) {
+                    e.printStackTrace();
+                    start = null;
+                }
+                if (start == null) {
+                    stale();   // fewer rows than counted
+                    return;
+                }
+                pageStarts.put(page, start);
+                startPending();
+            }
+        }.execute();
+    }
+
+    private void loadPage(int page) {
+        loading.add(page);
+        final int requestGeneration = generation;
+        final PaymentFilter requestFilter = filter;
+        final PaymentCursor start = pageStarts.get(page);
+
+        new SwingWorker<List<Payment>, Void>() {
+            @Override
+            protected List<Payment> doInBackground() {
+                return paymentDAO.getPaymentsPage(requestFilter, start, PAGE_SIZE);
+            }
+
+            @Override
+            protected void done() {
+                if (requestGeneration != generation) {
+                    return;
+                }
+                loading.remove(page);
+                List<Payment> rows;
+                try {
+                    rows = get();
+                } catch (Exception e) {
+                    e.printStackTrace();
+                    rows = new ArrayList<>();
+                }
+                int first = page * PAGE_SIZE;
+                int last = Math.min(first + PAGE_SIZE, rowCount) - 1;
+                if (rows.size() < last - first + 1) {
+                    stale();   // rows were deleted since the count; don't keep the short page
+                    return;
+                }
+                if (rows.size() == PAGE_SIZE) {
+                    pageStarts.put(page + 1, PaymentCursor.of(rows.get(rows.size() - 1)));
+                }
+                pages.put(page, rows);
+                fireTableRowsUpdated(first, last);
+                startPending();
+            }
+        }.execute();
+    }
+
+    private void stale() {
+        waiting.clear();
+        if (!staleReported) {
+            staleReported = true;
+            onStale.run();
+        }
+    }
+}
@@ -0,0 +1,38 @@
+import model.Room;
+import util.RowTableModel;
+
+/**
+ * RoomTableModel - Rooms for the Room Management table. Price is a Long of
+ * centavos; render it with MoneyRenderer.
+ */
+class RoomTableModel extends RowTableModel<Room> {
+    static final int ID = 0;
+    static final int ROOM_NUMBER = 1;
+    static final int TYPE = 2;
+    static final int CAPACITY = 3;
+    static final int PRICE = 4;
+    static final int STATUS = 5;
+
+    RoomTableModel() {
+        super(new String[]{"ID", "Room No", "Type", "Capacity", "Price", "Status"},
+              new Class<?>[]{Integer.class, String.class, String.class, Integer.class, Long.class, String.class});
+    }
+
+    @Override
+    protected int idOf(Room room) {
+        return room.getId();
+    }
+
+    @Override
+    protected Object valueAt(Room room, int column) {
+        switch (column) {
+            case ID: return room.getId();
+            case ROOM_NUMBER: return room.getRoomNumber();
+            case TYPE: return room.getRoomType();
+            case CAPACITY: return room.getCapacity();
+            case PRICE: return room.getPrice();
+            case STATUS: return room.getStatus();
+            default: return null;
+        }
+    }
+}
@@ -0,0 +1,127 @@
+import dao.BillingSettingsStore;
+import dao.RoomDAO;
+import dao.TenantDAO;
+import util.DatabaseConfig;
+import util.DatabaseConnection;
+import util.IconCache;
+import util.SchemaMigrator;
+import util.ThemeManager;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Startup - Warms the app up in the background while the login frame is
+ * up, so the Dashboard opens populated right after authentication.
+ *
+ *   driver load -> pool warm-up -> schema migration -> prefetch rooms, tenants, billing settings
+ *   icon preload (sidebar and Dashboard icons)
+ *   theme load (ThemeManager reads theme.properties)
+ *
+ * The three chains run at the same time; the prefetch steps run in
+ * parallel once the schema is current. Login waits for the migration
+ * (awaitDatabase) before it queries. Each step and the two user-facing
+ * milestones - login frame shown, Dashboard populated - are logged.
+ */
+final class Startup {
+    private static final String[] MENU_ICONS = {"dashboard.png", "tenant.png", "room.png", "peso.png",
+        "setting.png", "user.png", "logout.png", "search.png"};
+    private static final String[] FILTER_ICONS = {"avail.png", "occu.png", "mainte.png", "under.png"};
+
+    private static final long startedAt = System.nanoTime();
+    private static volatile long authenticatedAt;
+    private static volatile boolean dashboardReported;
+    private static volatile CompletableFuture<Void> database = CompletableFuture.completedFuture(null);
+
+    private Startup() {
+    }
+
+    /**
+     * Start the warm-up; call first thing in main
+     */
+    static void begin() {
+        AtomicInteger threadCount = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(4, r -> {
+            Thread t = new Thread(r, "startup-" + threadCount.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+
+        CompletableFuture<Void> theme = step(executor, "theme load", ThemeManager::isDarkMode);
+        CompletableFuture<Void> icons = step(executor, "icon preload", Startup::preloadIcons);
+        database = step(executor, "driver load", Startup::loadDriver)
+                .thenCompose(v -> step(executor, "pool warm-up", DatabaseConnection::warmUp))
+                .thenCompose(v -> step(executor, "schema migration", SchemaMigrator::migrate));
+        CompletableFuture<Void> prefetch = database.thenCompose(v -> CompletableFuture.allOf(
+                step(executor, "prefetch rooms", () -> new RoomDAO().getAllRooms()),
+                step(executor, "prefetch tenants", () -> new TenantDAO().getAllTenants()),
+                step(executor, "prefetch billing settings", BillingSettingsStore::current)));
+
+        CompletableFuture.allOf(theme, icons, prefetch).whenComplete((v, e) -> {
+            System.out.println("🚀 Startup warm-up done at " + sinceStart() + " ms");
+            executor.shutdown();
+        });
+    }
+
+    /**
+     * Block until the schema is migrated (or that failed); call off the EDT
+     */
+    static void awaitDatabase() {
+        database.join();
+    }
+
+    static void loginFrameShown() {
+        System.out.println("⏱️ Login frame shown at " + sinceStart() + " ms");
+    }
+
+    static void authenticated() {
+        authenticatedAt = System.nanoTime();
+        dashboardReported = false;
+    }
+
+    // Called each time the Dashboard fills its table; only the first after a login is reported
+    static void dashboardPopulated() {
+        if (authenticatedAt == 0 || dashboardReported) {
+            return;
+        }
+        dashboardReported = true;
+        System.out.println("⏱️ Dashboard populated " + (System.nanoTime() - authenticatedAt) / 1_000_000
+                + " ms after login (" + sinceStart() + " ms since launch)");
+    }
+
+    // A failed step is logged and the steps after it still run; they report their own errors
+    private static CompletableFuture<Void> step(ExecutorService executor, String name, Runnable task) {
+        return CompletableFuture.runAsync(() -> {
+            long start = System.nanoTime();
+            try {
+                task.run();
+                System.out.println("🚀 " + name + " " + (System.nanoTime() - start) / 1_000_000 + " ms");
+            } catch (RuntimeException e) {
+                System.err.println("⚠️ Startup step failed: " + name + " - " + e.getMessage());
+            }
+        }, executor);
+    }
+
+    private static void loadDriver() {
+        try {
+            Class.forName(DatabaseConfig.load().getDriverClass());
+        } catch (ClassNotFoundException e) {
+            System.err.println("MySQL Driver not found: " + e.getMessage());
+        }
+    }
+
+    private static void preloadIcons() {
+        for (String icon : MENU_ICONS) {
+            IconCache.get(icon, 20, 20);
+        }
+        for (String icon : FILTER_ICONS) {
+            IconCache.get(icon, 16, 16);
+        }
+        IconCache.get("bell.png", 32, 32);
+    }
+
+    private static long sinceStart() {
+        return (System.nanoTime() - startedAt) / 1_000_000;
+    }
+}
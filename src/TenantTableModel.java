@@ -0,0 +1,42 @@
+import model.Tenant;
+import util.RowTableModel;
+
+/**
+ * TenantTableModel - Tenants for the Tenant Management table. Payment is a
+ * Long of centavos; render it with MoneyRenderer.
+ */
+class TenantTableModel extends RowTableModel<Tenant> {
+    static final int ID = 0;
+    static final int NAME = 1;
+    static final int CONTACT = 2;
+    static final int ROOM_NUMBER = 3;
+    static final int GENDER = 4;
+    static final int MONTH = 5;
+    static final int PAYMENT = 6;
+
+    TenantTableModel() {
+        super(new String[]{"ID", "Name", "Contact", "Room No", "Gender", "Month", "Payment"},
+              new Class<?>[]{Integer.class, String.class, String.class, Integer.class, String.class, String.class, Long.class});
+    }
+
+    @Override
+    protected int idOf(Tenant tenant) {
+        return tenant.getTenantId();
+    }
+
+    @Override
+    protected Object valueAt(Tenant tenant, int column) {
+        switch (column) {
+            case ID: return tenant.getTenantId();
+            case NAME: return tenant.getName();
+            case CONTACT: return tenant.getContact();
+            case ROOM_NUMBER: return tenant.getRoomNumber();
+            case GENDER:
+                String gender = tenant.getGender();
+                return gender == null || gender.trim().isEmpty() ? "Not Set" : gender;
+            case MONTH: return tenant.getMonth();
+            case PAYMENT: return tenant.getPayment();
+            default: return null;
+        }
+    }
+}
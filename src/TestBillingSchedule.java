@@ -0,0 +1,137 @@
+import dao.BillingDAO;
+import model.BillingRun;
+import model.BillingSettings;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * BillingScheduler's calendar: which period is due on a given day and
+ * when the next run fires, including billing days past a month's end,
+ * how a settings snapshot reads and compares its values, that a failed
+ * run is retried instead of waiting for the next billing day, and that
+ * periods due while billing is off are skipped rather than back-billed.
+ * Usage: java TestBillingSchedule   (no database needed)
+ */
+public class TestBillingSchedule {
+    public static void main(String[] args) throws Exception {
+        TestChecks checks = new TestChecks("schedule");
+        checks.check("billing day 31 in February is the 28th",
+                BillingScheduler.billingDate(YearMonth.of(2026, 2), 31).equals(LocalDate.of(2026, 2, 28)));
+        checks.check("billing day 31 in a leap February is the 29th",
+                BillingScheduler.billingDate(YearMonth.of(2028, 2), 31).equals(LocalDate.of(2028, 2, 29)));
+
+        checks.check("before the billing day, last month is the newest due",
+                BillingScheduler.latestDuePeriod(LocalDate.of(2026, 3, 4), 5).equals(YearMonth.of(2026, 2)));
+        checks.check("on the billing day, this month is due",
+                BillingScheduler.latestDuePeriod(LocalDate.of(2026, 3, 5), 5).equals(YearMonth.of(2026, 3)));
+        checks.check("day 30 is due on February 28th",
+                BillingScheduler.latestDuePeriod(LocalDate.of(2026, 2, 28), 30).equals(YearMonth.of(2026, 2)));
+
+        checks.check("next run is midnight of this month's billing day",
+                BillingScheduler.nextRunTime(LocalDateTime.of(2026, 3, 4, 15, 30), 5)
+                        .equals(LocalDateTime.of(2026, 3, 5, 0, 0)));
+        checks.check("a run at exactly midnight plans the next month",
+                BillingScheduler.nextRunTime(LocalDateTime.of(2026, 3, 5, 0, 0), 5)
+                        .equals(LocalDateTime.of(2026, 4, 5, 0, 0)));
+        checks.check("next run after January 31st with day 31 is February 28th",
+                BillingScheduler.nextRunTime(LocalDateTime.of(2026, 1, 31, 9, 0), 31)
+                        .equals(LocalDateTime.of(2026, 2, 28, 0, 0)));
+        checks.check("next run crosses the year",
+                BillingScheduler.nextRunTime(LocalDateTime.of(2026, 12, 20, 9, 0), 1)
+                        .equals(LocalDateTime.of(2027, 1, 1, 0, 0)));
+
+        BillingSettings defaults = BillingSettings.empty();
+        checks.check("no settings: billing day 1, enabled, never billed",
+                defaults.getBillingDay() == 1 && defaults.isBillingEnabled() && defaults.getLastBilledPeriod() == null);
+        Map<String, String> values = new HashMap<>();
+        values.put(BillingSettings.BILLING_DAY, " 15 ");
+        values.put(BillingSettings.LAST_BILLED_PERIOD, "202609");
+        BillingSettings day15 = new BillingSettings(values, "2:a");
+        checks.check("snapshot reads billing day and watermark",
+                day15.getBillingDay() == 15 && YearMonth.of(2026, 9).equals(day15.getLastBilledPeriod()));
+        values.put(BillingSettings.BILLING_DAY, "abc");
+        checks.check("unreadable billing day counts as the 1st", new BillingSettings(values, "2:b").getBillingDay() == 1);
+        values.put(BillingSettings.BILLING_DAY, "15");
+        values.put(BillingSettings.LAST_BILLED_PERIOD, "202610");
+        checks.check("a new watermark doesn't change the schedule", !day15.scheduleDiffers(new BillingSettings(values, "2:c")));
+        values.put(BillingSettings.BILLING_ENABLED, "false");
+        checks.check("switching billing off changes the schedule", day15.scheduleDiffers(new BillingSettings(values, "3:d")));
+
+        // A run that fails (database down) stays due; the next wake-up retries it
+        AtomicInteger attempts = new AtomicInteger();
+        AtomicBoolean databaseUp = new AtomicBoolean();
+        BillingDAO flaky = new BillingDAO() {
+            @Override
+            public List<BillingRun> catchUp(YearMonth through) {
+                attempts.incrementAndGet();
+                return databaseUp.get() ? Collections.emptyList() : null;
+            }
+        };
+        BillingScheduler scheduler = new BillingScheduler(flaky, BillingSettings::empty, () -> { });
+        scheduler.start();
+        for (int i = 0; i < 100 && attempts.get() == 0; i++) {
+            Thread.sleep(20);
+        }
+        Thread.sleep(100);   // let the start-up wake-up finish planning
+        checks.check("a failed first run stays due", attempts.get() == 1 && scheduler.getNextRunAt() == null);
+        scheduler.wake();
+        checks.check("the next wake-up retries it", attempts.get() == 2 && scheduler.getNextRunAt() == null);
+        databaseUp.set(true);
+        scheduler.wake();
+        checks.check("a successful run plans the next billing day",
+                attempts.get() == 3 && scheduler.getNextRunAt() != null && scheduler.getNextRunAt().isAfter(LocalDateTime.now()));
+        scheduler.wake();
+        checks.check("nothing runs again before the billing day", attempts.get() == 3);
+        scheduler.stop();
+
+        // Billing switched off: due periods are skipped, not billed when it's switched back on
+        List<YearMonth> skipped = new ArrayList<>();
+        AtomicInteger catchUps = new AtomicInteger();
+        AtomicBoolean enabled = new AtomicBoolean();
+        Map<String, String> off = new HashMap<>();
+        off.put(BillingSettings.BILLING_ENABLED, "false");
+        BillingSettings disabled = new BillingSettings(off, "1:a");
+        BillingDAO recording = new BillingDAO() {
+            @Override
+            public List<BillingRun> catchUp(YearMonth through) {
+                catchUps.incrementAndGet();
+                return Collections.emptyList();
+            }
+
+            @Override
+            public boolean skipThrough(YearMonth through) {
+                skipped.add(through);
+                return true;
+            }
+        };
+        BillingScheduler paused = new BillingScheduler(recording,
+                () -> enabled.get() ? BillingSettings.empty() : disabled, () -> { });
+        paused.start();
+        for (int i = 0; i < 100 && skipped.isEmpty(); i++) {
+            Thread.sleep(20);
+        }
+        Thread.sleep(100);   // let the start-up wake-up finish planning
+        YearMonth dueNow = BillingScheduler.latestDuePeriod(LocalDate.now(), 1);
+        checks.check("a disabled wake-up moves the watermark to the newest due period without billing",
+                skipped.equals(Collections.singletonList(dueNow)) && catchUps.get() == 0);
+        checks.check("and plans the next billing day", paused.getNextRunAt() != null);
+        enabled.set(true);
+        paused.stop();
+        paused.start();   // as on re-enable: the run is due again at once
+        for (int i = 0; i < 100 && catchUps.get() == 0; i++) {
+            Thread.sleep(20);
+        }
+        checks.check("switching it back on runs the catch-up, which starts after the moved watermark", catchUps.get() == 1 && skipped.size() == 1);
+        paused.stop();
+
+        checks.finish();
+    }
+}
@@ -0,0 +1,42 @@
+/**
+ * TestChecks - What the TestX programs share: print each check, then a
+ * summary, and exit with status 1 if any failed.
+ *
+ *   TestChecks checks = new TestChecks("cache");
+ *   checks.check("second lookup is a hit", hits == 1);
+ *   checks.finish();
+ */
+final class TestChecks {
+
+    // A timed block; report is false on the warm-up round
+    interface Round {
+        void run(boolean report) throws Exception;
+    }
+
+    private final String subject;
+    private int failures;
+
+    TestChecks(String subject) {
+        this.subject = subject;
+    }
+
+    void check(String name, boolean ok) {
+        System.out.println((ok ? "✅ " : "❌ ") + name);
+        if (!ok) {
+            failures++;
+        }
+    }
+
+    void finish() {
+        System.out.println(failures == 0 ? "✅ All " + subject + " checks passed" : "❌ " + failures + " check(s) failed");
+        if (failures > 0) {
+            System.exit(1);
+        }
+    }
+
+    // Run a timing twice: the first round warms up the JIT, only the second reports
+    static void timed(Round round) throws Exception {
+        round.run(false);
+        round.run(true);
+    }
+}
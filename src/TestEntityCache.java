@@ -0,0 +1,71 @@
+import util.EntityCache;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Checks EntityCache behaviour (hits, TTL, LRU eviction, invalidation) and
+ * times a cached lookup. No database needed - the loader stands in for a
+ * DAO query.
+ * Usage: java TestEntityCache
+ */
+public class TestEntityCache {
+    public static void main(String[] args) throws Exception {
+        TestChecks checks = new TestChecks("cache");
+        AtomicInteger loads = new AtomicInteger();
+
+        EntityCache<String, String> cache = new EntityCache<>("test", 2, 200, TimeUnit.MILLISECONDS);
+        cache.get("a", k -> load(loads, k));
+        cache.get("a", k -> load(loads, k));
+        checks.check("second lookup is a hit", loads.get() == 1 && cache.getStats().getHits() == 1);
+
+        cache.get("b", k -> load(loads, k));
+        cache.get("c", k -> load(loads, k));
+        checks.check("third key evicts the least recently used", cache.getStats().getEvictions() == 1 && cache.getStats().getSize() == 2);
+
+        cache.invalidate("c");
+        cache.get("c", k -> load(loads, k));
+        checks.check("invalidated key is reloaded", loads.get() == 4 && cache.getStats().getInvalidations() == 1);
+
+        cache.put("b", "written");
+        checks.check("put replaces the entry", "written".equals(cache.get("b", k -> load(loads, k))));
+
+        Thread.sleep(250);
+        cache.get("b", k -> load(loads, k));
+        checks.check("entry past its TTL is reloaded", cache.getStats().getExpirations() == 1 && loads.get() == 5);
+
+        // A load that started before a write must not overwrite it
+        EntityCache<String, String> racy = new EntityCache<>("race", 4, 1, TimeUnit.MINUTES);
+        String returned = racy.get("k", k -> {
+            racy.put("k", "new");   // the write lands while the old read is in flight
+            return "old";
+        });
+        checks.check("stale load is returned but not stored", "old".equals(returned) && "new".equals(racy.get("k", k -> "reloaded")));
+
+        checks.check("null results are not cached", racy.get("missing", k -> null) == null && racy.getStats().getSize() == 1);
+
+        // Time a hit
+        EntityCache<Integer, Long> prices = new EntityCache<>("room-price", 256, 5, TimeUnit.MINUTES);
+        for (int room = 1; room <= 50; room++) {
+            prices.get(room, r -> r * 100_000L);
+        }
+        int lookups = 2_000_000;
+        TestChecks.timed(report -> {
+            long sum = 0;
+            long start = System.nanoTime();
+            for (int i = 0; i < lookups; i++) {
+                sum += prices.get(1 + i % 50, r -> r * 100_000L);
+            }
+            if (report) {
+                System.out.printf("cached lookup: %.0f ns (%s)%n", (double) (System.nanoTime() - start) / lookups, prices.getStats());
+            }
+            if (sum == 42) System.out.println();   // keep the loop from being optimized away
+        });
+
+        checks.finish();
+    }
+
+    private static String load(AtomicInteger loads, String key) {
+        loads.incrementAndGet();
+        return key.toUpperCase();
+    }
+}
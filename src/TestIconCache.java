@@ -0,0 +1,72 @@
+import util.IconCache;
+import javax.swing.ImageIcon;
+import java.awt.Image;
+import java.awt.image.MultiResolutionImage;
+import java.io.File;
+
+/**
+ * Icon cost of building the Dashboard sidebar and search bar: the old
+ * per-screen loadIcon (decode the PNG, getScaledInstance, every time)
+ * against IconCache, first build and every build after.
+ * Usage: java TestIconCache [builds]   (default 20), from the project root
+ * so src/icons/ is found.
+ */
+public class TestIconCache {
+    private static final String[] DASHBOARD_ICONS = {"logout.png", "dashboard.png", "tenant.png", "room.png",
+        "peso.png", "setting.png", "search.png"};
+
+    public static void main(String[] args) {
+        TestChecks checks = new TestChecks("icon");
+        int builds = args.length > 0 ? Integer.parseInt(args[0]) : 20;
+        if (!new File("src/icons/logout.png").exists()) {
+            System.out.println("❌ Run from the project root (src/icons/ not found)");
+            System.exit(1);
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < builds; i++) {
+            for (String icon : DASHBOARD_ICONS) {
+                oldLoadIcon(icon, 20, 20);
+            }
+        }
+        double oldMs = (System.nanoTime() - start) / 1e6 / builds;
+
+        start = System.nanoTime();
+        for (String icon : DASHBOARD_ICONS) {
+            IconCache.get(icon, 20, 20);
+        }
+        double firstMs = (System.nanoTime() - start) / 1e6;
+
+        start = System.nanoTime();
+        for (int i = 0; i < builds; i++) {
+            for (String icon : DASHBOARD_ICONS) {
+                IconCache.get(icon, 20, 20);
+            }
+        }
+        double cachedMs = (System.nanoTime() - start) / 1e6 / builds;
+
+        System.out.printf("icons per screen build   loadIcon: %.2f ms   IconCache first: %.2f ms   after: %.4f ms%n",
+                oldMs, firstMs, cachedMs);
+
+        ImageIcon logout = IconCache.get("logout.png", 20, 20);
+        checks.check("same size is the same icon", logout == IconCache.get("logout.png", 20, 20));
+        checks.check("requested size", logout.getIconWidth() == 20 && logout.getIconHeight() == 20);
+        Image image = logout.getImage();
+        checks.check("HiDPI variants from a large source", image instanceof MultiResolutionImage
+                && ((MultiResolutionImage) image).getResolutionVariants().size() == 3);
+        Image small = IconCache.get("pending.png", 16, 16).getImage();
+        checks.check("no upscaled variants from a small source", !(small instanceof MultiResolutionImage)
+                || ((MultiResolutionImage) small).getResolutionVariants().size() == 2);
+        checks.check("missing icon is null", IconCache.get("missing.png", 20, 20) == null);
+
+        checks.finish();
+    }
+
+    // What every screen did before IconCache
+    private static ImageIcon oldLoadIcon(String filename, int width, int height) {
+        String path = "src/icons/" + filename;
+        ImageIcon icon = new ImageIcon(path);
+        Image img = icon.getImage().getScaledInstance(width, height, Image.SCALE_SMOOTH);
+        return new ImageIcon(img);
+    }
+}
@@ -0,0 +1,93 @@
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+
+/**
+ * Bounded-heap check for the streaming payment export against a live database.
+ * Usage: java -Xmx64m -Ddb.url=jdbc:mysql://localhost/houserent_test TestPaymentExport <rows>
+ * Both are required: it writes millions of rows, so it never falls back to
+ * the app's database.properties or a default count. Seeds the test
+ * payments, exports them through PaymentCsvExporter and reports the peak
+ * heap used. Loading them into a list would need well over
+ * a gigabyte; the streamed export has to finish inside -Xmx. Test rows are
+ * deleted afterwards.
+ */
+public class TestPaymentExport {
+    public static void main(String[] args) throws Exception {
+        if (args.length < 1 || System.getProperty("db.url") == null) {
+            System.out.println("Usage: java -Xmx64m -Ddb.url=<test database url> TestPaymentExport <rows>   (e.g. 5000000)");
+            System.exit(2);
+        }
+        int rows = Integer.parseInt(args[0]);
+        String prefix = "Export Test " + System.currentTimeMillis() + " #";
+        Path csv = Files.createTempFile("payment_export_test", ".csv");
+
+        try {
+            long start = System.currentTimeMillis();
+            seed(prefix, rows);
+            System.out.println("Seeded " + rows + " payments in " + (System.currentTimeMillis() - start) + " ms");
+
+            for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+                pool.resetPeakUsage();
+            }
+            start = System.currentTimeMillis();
+            long exported = PaymentCsvExporter.export(new dao.PaymentDAO(),
+                    new model.PaymentFilter(null, null, "All", prefix), csv);
+            long elapsed = System.currentTimeMillis() - start;
+
+            long peakHeap = 0;
+            for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+                if (pool.getType() == MemoryType.HEAP) {
+                    peakHeap += pool.getPeakUsage().getUsed();
+                }
+            }
+            long maxHeap = Runtime.getRuntime().maxMemory();
+            System.out.println("Exported " + exported + " rows (" + Files.size(csv) / (1024 * 1024) + " MB) in "
+                    + elapsed + " ms, peak heap " + peakHeap / (1024 * 1024) + " MB of "
+                    + maxHeap / (1024 * 1024) + " MB");
+
+            boolean ok = exported == rows;
+            System.out.println(ok ? "PASS: every row exported within the heap limit" : "FAIL: expected " + rows + " rows");
+            if (!ok) System.exit(1);
+        } finally {
+            Files.deleteIfExists(csv);
+            cleanup(prefix);
+        }
+    }
+
+    private static void seed(String prefix, int rows) throws Exception {
+        String sql = "INSERT INTO payments (tenant_name, room_number, total_amount, amount_paid, payment_type, " +
+                     "remaining_balance, month, payment_date, status, notes) " +
+                     "VALUES (?, ?, 1000.00, 0.00, 'Full Payment', 1000.00, 'Export Test', NULL, 'Pending', '')";
+        try (Connection conn = util.DatabaseConnection.getConnection();
+             PreparedStatement pst = conn.prepareStatement(sql)) {
+            conn.setAutoCommit(false);
+            for (int i = 0; i < rows; i++) {
+                pst.setString(1, prefix + i);
+                pst.setString(2, String.valueOf(i % 500));
+                pst.addBatch();
+                if ((i + 1) % 10_000 == 0) {
+                    pst.executeBatch();
+                    conn.commit();
+                }
+            }
+            pst.executeBatch();
+            conn.commit();
+        }
+    }
+
+    private static void cleanup(String prefix) throws Exception {
+        String sql = "DELETE FROM payments WHERE month = 'Export Test' AND tenant_name LIKE ? LIMIT 50000";
+        try (Connection conn = util.DatabaseConnection.getConnection();
+             PreparedStatement pst = conn.prepareStatement(sql)) {
+            pst.setString(1, prefix + "%");
+            while (pst.executeUpdate() > 0) {
+                // delete in chunks to keep each transaction small
+            }
+        }
+    }
+}
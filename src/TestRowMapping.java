@@ -0,0 +1,340 @@
+import dao.PaymentRowMapper;
+import dao.RoomOccupancyRowMapper;
+import dao.RoomRowMapper;
+import dao.TenantRowMapper;
+import dao.UserRowMapper;
+import model.BillingPeriod;
+import model.Money;
+import model.Payment;
+import model.Room;
+import model.RoomOccupancy;
+import model.Tenant;
+import model.User;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * The index-based row mappers against the by-name reads they replaced:
+ * every mapper must build the same fields, including NULL dates and
+ * periods, DECIMAL amounts in centavos and schemas from before V3/V5
+ * (no tenant_id, period or gender). Then the mapping cost per payment row.
+ * Usage: java TestRowMapping [rows]   (default 1,000,000)
+ * Runs on an in-memory ResultSet, so no database is needed.
+ */
+public class TestRowMapping {
+    private static final String[] PAYMENT_COLUMNS = {"payment_id", "tenant_id", "tenant_name", "room_number",
+        "total_amount", "amount_paid", "payment_type", "remaining_balance", "month", "period",
+        "payment_date", "status", "notes"};
+    private static final String[] OLD_PAYMENT_COLUMNS = {"payment_id", "tenant_name", "room_number",
+        "total_amount", "amount_paid", "payment_type", "remaining_balance", "month",
+        "payment_date", "status", "notes"};
+    private static final String[] TENANT_COLUMNS = {"id", "name", "contact", "houseno", "payment", "month",
+        "period", "gender"};
+    private static final String[] OLD_TENANT_COLUMNS = {"id", "name", "contact", "houseno", "payment", "month"};
+    private static final String[] ROOM_COLUMNS = {"id", "room_number", "room_type", "capacity", "price",
+        "status", "description"};
+    private static final String[] OCCUPANCY_COLUMNS = {"room_number", "capacity", "price", "status", "tenant_count"};
+    private static final String[] USER_COLUMNS = {"user_id", "username", "password", "full_name", "role"};
+
+    private interface Read<T> {
+        T read(ResultSet rs) throws SQLException;
+    }
+
+    public static void main(String[] args) throws Exception {
+        TestChecks checks = new TestChecks("row mapping");
+        int rows = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+
+        List<Map<String, Object>> payments = Arrays.asList(
+                row("payment_id", 1, "tenant_id", 7, "tenant_name", "Juan Dela Cruz", "room_number", "12",
+                    "total_amount", new BigDecimal("5000.00"), "amount_paid", new BigDecimal("2500.00"),
+                    "payment_type", "Partial Payment", "remaining_balance", new BigDecimal("2500.00"),
+                    "month", "December 2025", "period", 202512, "payment_date", Date.valueOf("2025-12-05"),
+                    "status", "Partial Payment", "notes", ""),
+                row("payment_id", 2, "tenant_id", null, "tenant_name", null, "room_number", null,
+                    "total_amount", new BigDecimal("1234.56"), "amount_paid", new BigDecimal("0.00"),
+                    "payment_type", null, "remaining_balance", new BigDecimal("1234.56"),
+                    "month", "November 2025", "period", null, "payment_date", null,
+                    "status", null, "notes", null));
+        compare(checks, "payment", PAYMENT_COLUMNS, payments,
+                TestRowMapping::paymentByName, new PaymentRowMapper()::map, TestRowMapping::fields);
+        compare(checks, "payment (old schema)", OLD_PAYMENT_COLUMNS, payments,
+                TestRowMapping::paymentByName, new PaymentRowMapper()::map, TestRowMapping::fields);
+
+        Payment unpaid = readAll(PAYMENT_COLUMNS, payments, new PaymentRowMapper()::map).get(1);
+        checks.check("NULL payment_date stays null", unpaid.getPaymentDate() == null);
+        checks.check("NULL period falls back to the month text", YearMonth.of(2025, 11).equals(unpaid.getPeriod()));
+        checks.check("DECIMAL 1234.56 is 123456 centavos", unpaid.getTotalAmount() == 123_456L && unpaid.getAmountPaid() == 0L);
+        checks.check("NULL text columns get the table's defaults", "N/A".equals(unpaid.getTenantName())
+                && "Pending".equals(unpaid.getStatus()) && "".equals(unpaid.getNotes()));
+
+        List<Map<String, Object>> tenants = Arrays.asList(
+                row("id", 3, "name", "Maria Santos", "contact", "09171234567", "houseno", 12,
+                    "payment", new BigDecimal("4500.50"), "month", "December 2025", "period", 202512, "gender", "Female"),
+                row("id", 4, "name", "Pedro Reyes", "contact", null, "houseno", 5,
+                    "payment", new BigDecimal("3000.00"), "month", "January", "period", null, "gender", null));
+        compare(checks, "tenant", TENANT_COLUMNS, tenants,
+                TestRowMapping::tenantByName, new TenantRowMapper()::map, TestRowMapping::fields);
+        compare(checks, "tenant (old schema)", OLD_TENANT_COLUMNS, tenants,
+                TestRowMapping::tenantByName, new TenantRowMapper()::map, TestRowMapping::fields);
+        checks.check("tenant payment 4500.50 is 450050 centavos",
+                readAll(TENANT_COLUMNS, tenants, new TenantRowMapper()::map).get(0).getPayment() == 450_050L);
+
+        List<Map<String, Object>> rooms = Arrays.asList(
+                row("id", 1, "room_number", "12", "room_type", "Double", "capacity", 2,
+                    "price", new BigDecimal("4500.00"), "status", "Occupied", "description", "Corner room", "tenant_count", 2),
+                row("id", 2, "room_number", "3A", "room_type", null, "capacity", 1,
+                    "price", new BigDecimal("0.00"), "status", null, "description", null, "tenant_count", 0));
+        compare(checks, "room", ROOM_COLUMNS, rooms,
+                TestRowMapping::roomByName, new RoomRowMapper()::map, TestRowMapping::fields);
+        compare(checks, "room occupancy", OCCUPANCY_COLUMNS, rooms,
+                TestRowMapping::occupancyByName, new RoomOccupancyRowMapper()::map, TestRowMapping::fields);
+
+        List<Map<String, Object>> users = Arrays.asList(
+                row("user_id", 1, "username", "admin", "password", "secret", "full_name", "Admin User", "role", "admin"),
+                row("user_id", 2, "username", "clerk", "password", null, "full_name", null, "role", null));
+        compare(checks, "user", USER_COLUMNS, users,
+                TestRowMapping::userByName, new UserRowMapper()::map, TestRowMapping::fields);
+
+        // Cost per payment row
+        List<Map<String, Object>> one = payments.subList(0, 1);
+        for (String[] columns : new String[][]{PAYMENT_COLUMNS, OLD_PAYMENT_COLUMNS}) {
+            String schema = columns == PAYMENT_COLUMNS ? "current schema" : "old schema";
+            TestChecks.timed(report -> {
+                int[] mapped = new int[2];
+                long byName = run(fakeResultSet(columns, one, rows), TestRowMapping::paymentByName, mapped, 0);
+                long indexed = run(fakeResultSet(columns, one, rows), new PaymentRowMapper()::map, mapped, 1);
+                if (report) {
+                    System.out.printf("%-15s by name: %6.1f ns/row   indexed: %6.1f ns/row%n",
+                            schema, (double) byName / rows, (double) indexed / rows);
+                    checks.check("every timed row mapped (" + schema + ")", mapped[0] == rows && mapped[1] == rows);
+                }
+            });
+        }
+
+        checks.finish();
+    }
+
+    // Map each row both ways and compare every field
+    private static <T> void compare(TestChecks checks, String name, String[] columns, List<Map<String, Object>> rows,
+                                    Read<T> byName, Read<T> indexed, Function<T, List<Object>> fields) throws SQLException {
+        ResultSet expectedRows = fakeResultSet(columns, rows, rows.size());
+        ResultSet actualRows = fakeResultSet(columns, rows, rows.size());
+        boolean same = true;
+        while (expectedRows.next() && actualRows.next()) {
+            List<Object> expected = fields.apply(byName.read(expectedRows));
+            List<Object> actual = fields.apply(indexed.read(actualRows));
+            if (!expected.equals(actual)) {
+                System.out.println("   by name: " + expected + "\n   indexed: " + actual);
+                same = false;
+            }
+        }
+        checks.check(name + " mapper reads the same fields as by name", same);
+    }
+
+    private static <T> List<T> readAll(String[] columns, List<Map<String, Object>> rows, Read<T> read) throws SQLException {
+        ResultSet rs = fakeResultSet(columns, rows, rows.size());
+        List<T> mapped = new ArrayList<>();
+        while (rs.next()) {
+            mapped.add(read.read(rs));
+        }
+        return mapped;
+    }
+
+    // Nanoseconds to map every row of rs; mapped[slot] counts the payments that came out right
+    private static long run(ResultSet rs, Read<Payment> read, int[] mapped, int slot) throws SQLException {
+        long start = System.nanoTime();
+        while (rs.next()) {
+            if (read.read(rs).getTotalAmount() == 500_000L) {
+                mapped[slot]++;
+            }
+        }
+        return System.nanoTime() - start;
+    }
+
+    private static List<Object> fields(Payment p) {
+        return Arrays.asList(p.getId(), p.getTenantId(), p.getTenantName(), p.getRoomNumber(), p.getTotalAmount(),
+                p.getAmountPaid(), p.getPaymentType(), p.getRemainingBalance(), p.getMonth(), p.getPeriod(),
+                p.getPaymentDate(), p.getStatus(), p.getNotes());
+    }
+
+    private static List<Object> fields(Tenant t) {
+        return Arrays.asList(t.getTenantId(), t.getName(), t.getContact(), t.getRoomNumber(), t.getPayment(),
+                t.getMonth(), t.getPeriod(), t.getGender());
+    }
+
+    private static List<Object> fields(Room r) {
+        return Arrays.asList(r.getId(), r.getRoomNumber(), r.getRoomType(), r.getCapacity(), r.getPrice(),
+                r.getStatus(), r.getDescription());
+    }
+
+    private static List<Object> fields(RoomOccupancy o) {
+        return Arrays.asList(o.getRoomNumber(), o.getCapacity(), o.getTenantCount(), o.getPrice(), o.getStatus());
+    }
+
+    private static List<Object> fields(User u) {
+        return Arrays.asList(u.getUserId(), u.getUsername(), u.getPassword(), u.getFullName(), u.getRole());
+    }
+
+    // How PaymentDAO read a row before the mappers
+    private static Payment paymentByName(ResultSet rs) throws SQLException {
+        Date dt = rs.getDate("payment_date");
+        Payment payment = new Payment(
+            rs.getInt("payment_id"),
+            stringOrDefault(rs, "tenant_name", "N/A"),
+            stringOrDefault(rs, "room_number", ""),
+            Money.fromDecimal(rs.getBigDecimal("total_amount")),
+            Money.fromDecimal(rs.getBigDecimal("amount_paid")),
+            stringOrDefault(rs, "payment_type", "Full Payment"),
+            Money.fromDecimal(rs.getBigDecimal("remaining_balance")),
+            stringOrDefault(rs, "month", "N/A"),
+            dt != null ? dt.toLocalDate() : null,
+            stringOrDefault(rs, "status", "Pending"),
+            stringOrDefault(rs, "notes", "")
+        );
+        try {
+            payment.setTenantId(rs.getInt("tenant_id"));
+        } catch (SQLException e) {
+            // column missing
+        }
+        try {
+            YearMonth period = BillingPeriod.fromKey(rs.getInt("period"));
+            if (period != null) payment.setPeriod(period);
+        } catch (SQLException e) {
+            // column missing
+        }
+        return payment;
+    }
+
+    // How TenantDAO.readTenant read a row
+    private static Tenant tenantByName(ResultSet rs) throws SQLException {
+        String gender = "N/A";
+        try {
+            gender = rs.getString("gender");
+            if (gender == null) gender = "N/A";
+        } catch (SQLException e) {
+            // column missing
+        }
+        Tenant tenant = new Tenant(
+            rs.getInt("id"),
+            rs.getString("name"),
+            rs.getString("contact"),
+            rs.getInt("houseno"),
+            Money.fromDecimal(rs.getBigDecimal("payment")),
+            rs.getString("month"),
+            gender
+        );
+        try {
+            YearMonth period = BillingPeriod.fromKey(rs.getInt("period"));
+            if (period != null) tenant.setPeriod(period);
+        } catch (SQLException e) {
+            // column missing
+        }
+        return tenant;
+    }
+
+    // How RoomDAO read rooms and the occupancy join, and UserDAO a user
+    private static Room roomByName(ResultSet rs) throws SQLException {
+        return new Room(rs.getInt("id"), rs.getString("room_number"), rs.getString("room_type"), rs.getInt("capacity"),
+                Money.fromDecimal(rs.getBigDecimal("price")), rs.getString("status"), rs.getString("description"));
+    }
+
+    private static RoomOccupancy occupancyByName(ResultSet rs) throws SQLException {
+        return new RoomOccupancy(rs.getString("room_number"), rs.getInt("capacity"), rs.getInt("tenant_count"),
+                Money.fromDecimal(rs.getBigDecimal("price")), rs.getString("status"));
+    }
+
+    private static User userByName(ResultSet rs) throws SQLException {
+        return new User(rs.getInt("user_id"), rs.getString("username"), rs.getString("password"),
+                rs.getString("full_name"), rs.getString("role"));
+    }
+
+    private static String stringOrDefault(ResultSet rs, String column, String defaultValue) {
+        try {
+            String value = rs.getString(column);
+            return value != null ? value : defaultValue;
+        } catch (SQLException e) {
+            return defaultValue;
+        }
+    }
+
+    // Row from label/value pairs
+    private static Map<String, Object> row(Object... pairs) {
+        Map<String, Object> row = new HashMap<>();
+        for (int i = 0; i < pairs.length; i += 2) {
+            row.put((String) pairs[i], pairs[i + 1]);
+        }
+        return row;
+    }
+
+    /**
+     * Forward-only ResultSet over the given columns, cycling through rows
+     * until count rows were read. Label lookups go through a
+     * case-insensitive map and throw for unknown columns, the way the MySQL
+     * driver's findColumn does; getInt of NULL is 0 and sets wasNull.
+     */
+    private static ResultSet fakeResultSet(String[] columns, List<Map<String, Object>> rows, int count) {
+        Map<String, Integer> positions = new HashMap<>();
+        for (int i = 0; i < columns.length; i++) {
+            positions.put(columns[i], i + 1);
+        }
+        Object[][] values = new Object[rows.size()][columns.length + 1];
+        for (int r = 0; r < rows.size(); r++) {
+            for (int i = 0; i < columns.length; i++) {
+                values[r][i + 1] = rows.get(r).get(columns[i]);
+            }
+        }
+
+        ResultSetMetaData meta = (ResultSetMetaData) Proxy.newProxyInstance(
+                TestRowMapping.class.getClassLoader(), new Class<?>[]{ResultSetMetaData.class},
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "getColumnCount": return columns.length;
+                        case "getColumnLabel":
+                        case "getColumnName": return columns[(Integer) args[0] - 1];
+                        default: throw new UnsupportedOperationException(method.getName());
+                    }
+                });
+
+        int[] cursor = {0};
+        Object[] last = {null};
+        return (ResultSet) Proxy.newProxyInstance(
+                TestRowMapping.class.getClassLoader(), new Class<?>[]{ResultSet.class},
+                (proxy, method, args) -> {
+                    String name = method.getName();
+                    if (name.equals("next")) return ++cursor[0] <= count;
+                    if (name.equals("getMetaData")) return meta;
+                    if (name.equals("wasNull")) return last[0] == null;
+                    if (name.equals("close")) return null;
+                    if (!name.startsWith("get") || args == null || args.length != 1) {
+                        throw new UnsupportedOperationException(name);
+                    }
+                    int column;
+                    if (args[0] instanceof String) {
+                        Integer position = positions.get(((String) args[0]).toLowerCase(Locale.ROOT));
+                        if (position == null) {
+                            throw new SQLException("Column '" + args[0] + "' not found.");
+                        }
+                        column = position;
+                    } else {
+                        column = (Integer) args[0];
+                    }
+                    Object value = values[(cursor[0] - 1) % values.length][column];
+                    last[0] = value;
+                    if (name.equals("getInt")) return value != null ? ((Number) value).intValue() : 0;
+                    if (name.equals("getString")) return value != null ? value.toString() : null;
+                    return value;
+                });
+    }
+}
@@ -0,0 +1,76 @@
+import model.Payment;
+import model.PaymentFilter;
+import model.Tenant;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.util.List;
+
+/**
+ * Full-text search against a live database: names made of stopword
+ * letters ("a", "i") must still be found by whole words and by fragments
+ * such as "ari" and "ia" (see V8). Month names and years filter on the
+ * billing period rather than matching the month text (see V10).
+ * Usage: java -Ddb.url=jdbc:mysql://localhost/houserent_test TestSearch
+ * Seeds one tenant and one payment, searches, and deletes them afterwards.
+ */
+public class TestSearch {
+    private static final String[] TERMS = {"Maria", "ari", "ia", "Aila"};
+
+    public static void main(String[] args) throws Exception {
+        if (System.getProperty("db.url") == null) {
+            System.out.println("Usage: java -Ddb.url=<test database url> TestSearch");
+            System.exit(2);
+        }
+        if (!util.SchemaMigrator.migrate()) {
+            System.exit(1);
+        }
+        TestChecks checks = new TestChecks("search");
+        String name = "Maria Aila Search" + System.currentTimeMillis();
+
+        try {
+            execute("INSERT INTO records (name, contact, houseno, payment, month) VALUES (?, '', 9999, 1000.00, 'Search Test')", name);
+            execute("INSERT INTO payments (tenant_name, room_number, total_amount, month, period, status, notes) " +
+                    "VALUES (?, '9999', 1000.00, 'January 2025', 202501, 'Pending', '')", name);
+
+            dao.TenantDAO tenants = new dao.TenantDAO();
+            dao.PaymentDAO payments = new dao.PaymentDAO();
+            for (String term : TERMS) {
+                checks.check("tenant search finds it by \"" + term + "\"", hasTenant(tenants.searchTenants(term), name));
+                checks.check("payment search finds it by \"" + term + "\"", hasPayment(payments.searchPayments(term), name));
+                checks.check("Payment Records filter finds it by \"" + term + "\"",
+                        hasPayment(payments.getPaymentsPage(new PaymentFilter(null, null, "All", term), null, 50), name));
+            }
+
+            String[][] periods = {{"January 2025", "true"}, {"2025", "true"}, {"january", "true"},
+                                  {"February 2025", "false"}, {"2024", "false"}, {"Jan", "false"}};
+            for (String[] period : periods) {
+                String term = "Maria " + period[0];
+                boolean expected = Boolean.parseBoolean(period[1]);
+                checks.check("payment search " + (expected ? "finds" : "skips") + " it by \"" + term + "\"",
+                        hasPayment(payments.searchPayments(term), name) == expected);
+                checks.check("Payment Records filter " + (expected ? "finds" : "skips") + " it by \"" + term + "\"",
+                        hasPayment(payments.getPaymentsPage(new PaymentFilter(null, null, "All", term), null, 50), name) == expected);
+            }
+        } finally {
+            execute("DELETE FROM records WHERE name = ?", name);
+            execute("DELETE FROM payments WHERE tenant_name = ?", name);
+        }
+        checks.finish();
+    }
+
+    private static boolean hasTenant(List<Tenant> found, String name) {
+        return found.stream().anyMatch(t -> name.equals(t.getName()));
+    }
+
+    private static boolean hasPayment(List<Payment> found, String name) {
+        return found.stream().anyMatch(p -> name.equals(p.getTenantName()));
+    }
+
+    private static void execute(String sql, String name) throws Exception {
+        try (Connection conn = util.DatabaseConnection.getConnection();
+             PreparedStatement pst = conn.prepareStatement(sql)) {
+            pst.setString(1, name);
+            pst.executeUpdate();
+        }
+    }
+}
@@ -0,0 +1,90 @@
+import model.Money;
+import model.Room;
+import javax.swing.RowSorter;
+import javax.swing.SortOrder;
+import javax.swing.table.DefaultTableModel;
+import javax.swing.table.TableModel;
+import javax.swing.table.TableRowSorter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Filling the rooms table: the old DefaultTableModel (setRowCount(0), then
+ * addRow of preformatted strings, one event per row) against RoomTableModel
+ * (typed cells, one event for the whole list), and a check that sorting the
+ * price column orders by amount, not by text.
+ * Usage: java TestTableModels [rows]   (default 100,000)
+ */
+public class TestTableModels {
+
+    public static void main(String[] args) throws Exception {
+        TestChecks checks = new TestChecks("table model");
+        int rows = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+        List<Room> rooms = new ArrayList<>();
+        for (int i = 0; i < rows; i++) {
+            rooms.add(new Room(i + 1, String.valueOf(100 + i), "Single", 1 + i % 4, (i * 7919L) % 2_000_000, "Available", ""));
+        }
+
+        TestChecks.timed(report -> {
+            long start = System.nanoTime();
+            DefaultTableModel old = fillOld(rooms);
+            long oldNanos = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            RoomTableModel typed = new RoomTableModel();
+            typed.addTableModelListener(e -> { });   // a table listens to both in the app
+            typed.setRows(rooms);
+            long typedNanos = System.nanoTime() - start;
+
+            if (report) {
+                System.out.printf("fill %,d rows   DefaultTableModel: %6.1f ms   RoomTableModel: %6.1f ms%n",
+                        rows, oldNanos / 1e6, typedNanos / 1e6);
+                checks.check("every row is shown", old.getRowCount() == rows && typed.getRowCount() == rows);
+            }
+        });
+
+        // Price column sorts by amount: ₱90.00 before ₱100.00
+        RoomTableModel model = new RoomTableModel();
+        model.setRows(List.of(
+                new Room(1, "1", "Single", 1, 10_000, "Available", ""),
+                new Room(2, "2", "Single", 1, 9_000, "Available", ""),
+                new Room(3, "3", "Single", 1, 250_000, "Available", "")));
+        int[] order = sortedIds(model, RoomTableModel.PRICE);
+        checks.check("price sorts numerically", order[0] == 2 && order[1] == 1 && order[2] == 3);
+
+        model.put(new Room(2, "2", "Double", 2, 9_000, "Occupied", ""));
+        model.put(new Room(4, "4", "Single", 1, 5_000, "Available", ""));
+        checks.check("put replaces by id and appends new ids",
+                model.getRowCount() == 4 && "Double".equals(model.getValueAt(1, RoomTableModel.TYPE)));
+        checks.check("remove by id", model.remove(1) && !model.remove(1) && model.indexOf(4) == 2);
+
+        MoneyRenderer renderer = new MoneyRenderer();
+        renderer.getTableCellRendererComponent(new javax.swing.JTable(), 123_450L, false, false, 0, 0);
+        checks.check("money cells are formatted by the renderer", Money.format(123_450L).equals(renderer.getText()));
+
+        checks.finish();
+    }
+
+    private static DefaultTableModel fillOld(List<Room> rooms) {
+        DefaultTableModel model = new DefaultTableModel();
+        model.setColumnIdentifiers(new String[]{"ID", "Room No", "Type", "Capacity", "Price", "Status"});
+        model.addTableModelListener(e -> { });
+        model.setRowCount(0);
+        for (Room room : rooms) {
+            model.addRow(new Object[]{room.getId(), room.getRoomNumber(), room.getRoomType(),
+                room.getCapacity(), Money.format(room.getPrice()), room.getStatus()});
+        }
+        return model;
+    }
+
+    private static int[] sortedIds(TableModel model, int column) {
+        TableRowSorter<TableModel> sorter = new TableRowSorter<>(model);
+        sorter.setSortKeys(Collections.singletonList(new RowSorter.SortKey(column, SortOrder.ASCENDING)));
+        int[] ids = new int[model.getRowCount()];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = (Integer) model.getValueAt(sorter.convertRowIndexToModel(i), 0);
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,57 @@
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Concurrency check for TenantDAO.onboardTenant against a live database.
+ * Usage: java TestTenantOnboarding <roomNumber> [threads]
+ * Many threads onboard into one room at the same moment; the room must
+ * never end up above its capacity. Test tenants are deleted afterwards.
+ */
+public class TestTenantOnboarding {
+    public static void main(String[] args) throws Exception {
+        int roomNumber = Integer.parseInt(args[0]);
+        int threads = args.length > 1 ? Integer.parseInt(args[1]) : 20;
+        String prefix = "Onboarding Test " + System.currentTimeMillis() + " #";
+
+        dao.TenantDAO dao = new dao.TenantDAO();
+        int capacity = dao.getRoomCapacity(roomNumber);
+        int before = dao.countTenantsInRoom(roomNumber);
+
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger added = new AtomicInteger();
+        List<Thread> workers = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            final int n = i;
+            Thread t = new Thread(() -> {
+                try {
+                    start.await();
+                    model.Tenant tenant = new model.Tenant(prefix + n, "", roomNumber, 0L, "January", "N/A");
+                    if (dao.onboardTenant(tenant, model.BillingPeriod.current()).isAdded()) {
+                        added.incrementAndGet();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            t.start();
+            workers.add(t);
+        }
+        start.countDown();
+        for (Thread t : workers) t.join();
+
+        int after = dao.countTenantsInRoom(roomNumber);
+        System.out.println("Room " + roomNumber + ": capacity=" + capacity + " before=" + before
+                + " added=" + added.get() + " after=" + after);
+        boolean ok = after <= Math.max(capacity, before) && after == before + added.get();
+        System.out.println(ok ? "PASS: capacity never exceeded" : "FAIL: room overfilled or counts disagree");
+
+        for (model.Tenant tenant : dao.getAllTenants()) {
+            if (tenant.getName() != null && tenant.getName().startsWith(prefix)) {
+                dao.deleteTenantById(tenant.getTenantId());
+            }
+        }
+        if (!ok) System.exit(1);
+    }
+}
@@ -0,0 +1,201 @@
+package dao;
+
+import model.BillingPeriod;
+import model.BillingRun;
+import model.BillingSettings;
+import model.DataChange;
+import util.DatabaseConnection;
+import java.sql.*;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+
+public class BillingDAO {
+
+    // Get database connection (borrowed from the shared pool)
+    private Connection getConnection() throws SQLException {
+        return DatabaseConnection.getConnection();
+    }
+
+    private static final String COUNT_SQL = "SELECT COUNT(*) FROM records r " +
+                                            "INNER JOIN rooms rm ON r.houseno = rm.room_number " +
+                                            "WHERE rm.status = 'Occupied' AND (r.period IS NULL OR r.period <= ?)";
+
+    private static final String INSERT_SQL = "INSERT INTO payments (tenant_id, tenant_name, room_number, total_amount, " +
+                                             "amount_paid, payment_type, remaining_balance, month, period, payment_date, status, notes) " +
+                                             "SELECT r.id, r.name, CAST(r.houseno AS CHAR), r.payment, 0.00, 'Full Payment', r.payment, " +
+                                             "?, ?, NULL, 'Pending', 'Auto-generated' " +
+                                             "FROM records r " +
+                                             "INNER JOIN rooms rm ON r.houseno = rm.room_number " +
+                                             "WHERE rm.status = 'Occupied' AND (r.period IS NULL OR r.period <= ?) " +
+                                             "AND NOT EXISTS (SELECT 1 FROM payments p WHERE p.tenant_id = r.id AND p.period = ?)";
+
+    /**
+     * Generate the month's bills for every tenant in an Occupied room with
+     * one INSERT ... SELECT inside a single transaction. The watermark moves
+     * up to the period if it is the one right after it.
+     *
+     * A tenant is skipped when a payment linked to it (payments.tenant_id)
+     * already exists for the period, so every roommate gets their own bill.
+     * That check is one seek on idx_payments_tenant_period per tenant.
+     * Tenants who moved in after the period (records.period) are skipped too.
+     *
+     * Returns null if the run failed and was rolled back.
+     */
+    public BillingRun generateMonthlyBills(YearMonth period) {
+        List<BillingRun> runs = bill(period, period);
+        return runs != null && !runs.isEmpty() ? runs.get(0) : null;
+    }
+
+    /**
+     * Generate the bills of every period after the watermark up to and
+     * including through, and advance the watermark to through, in one
+     * transaction: the watermark only moves if the bills were written.
+     * The watermark row is locked first, so two running copies of the app
+     * can't bill the same periods.
+     *
+     * Returns one run per period billed (empty if none was due), or null if
+     * it failed and was rolled back.
+     */
+    public List<BillingRun> catchUp(YearMonth through) {
+        return bill(null, through);
+    }
+
+    /**
+     * Move the watermark up to through without billing, for periods that
+     * came due while automatic billing was switched off: turning it back
+     * on then bills from the next billing day, not every skipped month.
+     * Returns false if it failed.
+     */
+    public boolean skipThrough(YearMonth through) {
+        try (Connection conn = getConnection()) {
+            conn.setAutoCommit(false);
+            try {
+                YearMonth watermark = lockWatermark(conn);
+                boolean moved = watermark == null || through.isAfter(watermark);
+                if (moved) {
+                    saveWatermark(conn, through);
+                }
+                conn.commit();
+
+                if (moved) {
+                    BillingSettingsStore.reload();
+                }
+                return true;
+            } catch (SQLException ex) {
+                conn.rollback();
+                throw ex;
+            }
+        } catch (SQLException ex) {
+            System.err.println("Error skipping billing periods: " + ex.getMessage());
+            ex.printStackTrace();
+            return false;
+        }
+    }
+
+    // from null = the period after the watermark
+    private List<BillingRun> bill(YearMonth from, YearMonth through) {
+        try (Connection conn = getConnection()) {
+            conn.setAutoCommit(false);
+            try {
+                YearMonth watermark = lockWatermark(conn);
+                YearMonth first = from != null ? from
+                        : watermark != null ? watermark.plusMonths(1) : through;
+
+                List<YearMonth> periods = new ArrayList<>();
+                for (YearMonth period = first; !period.isAfter(through); period = period.plusMonths(1)) {
+                    periods.add(period);
+                }
+                List<BillingRun> runs = periods.isEmpty() ? new ArrayList<>() : generate(conn, periods);
+
+                // Only moves forward, and never over a gap of periods nobody billed
+                boolean contiguous = watermark == null || !first.isAfter(watermark.plusMonths(1));
+                YearMonth newWatermark = watermark;
+                if (!periods.isEmpty() && contiguous && (watermark == null || through.isAfter(watermark))) {
+                    newWatermark = through;
+                    saveWatermark(conn, newWatermark);
+                }
+                conn.commit();
+
+                if (newWatermark != watermark) {
+                    BillingSettingsStore.reload();
+                }
+                if (runs.stream().anyMatch(run -> run.getBillsGenerated() > 0)) {
+                    DataChangeBus.publish(DataChange.invalidated(DataChange.Entity.PAYMENT));
+                }
+                return runs;
+            } catch (SQLException ex) {
+                conn.rollback();
+                throw ex;
+            }
+        } catch (SQLException ex) {
+            System.err.println("Error generating monthly bills: " + ex.getMessage());
+            ex.printStackTrace();
+            return null;
+        }
+    }
+
+    // All periods' inserts go to the server as one batch
+    private List<BillingRun> generate(Connection conn, List<YearMonth> periods) throws SQLException {
+        long start = System.currentTimeMillis();
+
+        int[] occupiedTenants = new int[periods.size()];
+        try (PreparedStatement pst = conn.prepareStatement(COUNT_SQL)) {
+            for (int i = 0; i < periods.size(); i++) {
+                pst.setInt(1, BillingPeriod.toKey(periods.get(i)));
+                try (ResultSet rs = pst.executeQuery()) {
+                    occupiedTenants[i] = rs.next() ? rs.getInt(1) : 0;
+                }
+            }
+        }
+
+        int[] billsGenerated;
+        try (PreparedStatement pst = conn.prepareStatement(INSERT_SQL)) {
+            for (YearMonth period : periods) {
+                int key = BillingPeriod.toKey(period);
+                pst.setString(1, BillingPeriod.format(period));
+                pst.setInt(2, key);
+                pst.setInt(3, key);
+                pst.setInt(4, key);
+                pst.addBatch();
+            }
+            billsGenerated = pst.executeBatch();
+        }
+
+        long elapsed = System.currentTimeMillis() - start;
+        List<BillingRun> runs = new ArrayList<>();
+        for (int i = 0; i < periods.size(); i++) {
+            int generated = Math.max(billsGenerated[i], 0);   // SUCCESS_NO_INFO is negative
+            runs.add(new BillingRun(periods.get(i), occupiedTenants[i], generated, elapsed));
+        }
+        return runs;
+    }
+
+    // Last billed period, locked until the transaction ends; null if the row is missing
+    private YearMonth lockWatermark(Connection conn) throws SQLException {
+        String sql = "SELECT setting_value FROM billing_settings WHERE setting_name = ? FOR UPDATE";
+        try (PreparedStatement pst = conn.prepareStatement(sql)) {
+            pst.setString(1, BillingSettings.LAST_BILLED_PERIOD);   // yyyymm, see V6
+            try (ResultSet rs = pst.executeQuery()) {
+                if (rs.next()) {
+                    try {
+                        return BillingPeriod.fromKey(Integer.parseInt(rs.getString(1).trim()));
+                    } catch (NumberFormatException e) {
+                        return null;
+                    }
+                }
+            }
+        }
+        return null;
+    }
+
+    private void saveWatermark(Connection conn, YearMonth period) throws SQLException {
+        String sql = "INSERT INTO billing_settings (setting_name, setting_value) VALUES (?, ?) " +
+                     "ON DUPLICATE KEY UPDATE setting_value = VALUES(setting_value)";
+        try (PreparedStatement pst = conn.prepareStatement(sql)) {
+            pst.setString(1, BillingSettings.LAST_BILLED_PERIOD);
+            pst.setString(2, String.valueOf(BillingPeriod.toKey(period)));
+            pst.executeUpdate();
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package dao;
+
+import model.BillingSettings;
+import util.DatabaseConnection;
+import java.sql.*;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * BillingSettingsStore - The billing_settings table as one immutable
+ * snapshot in memory.
+ *
+ * The first read loads every row in one query; after that current() costs
+ * no round trip. The snapshot is replaced when update() writes, when
+ * BillingDAO moves the billing watermark, and when refreshIfChanged() sees
+ * the table's version (row count + newest updated_at) move because another
+ * copy of the app or a manual edit changed it. Listeners are told about
+ * each replacement, on the thread that made it.
+ */
+public final class BillingSettingsStore {
+
+    public interface SettingsListener {
+        void onSettingsChanged(BillingSettings before, BillingSettings after);
+    }
+
+    private static final List<SettingsListener> listeners = new CopyOnWriteArrayList<>();
+    private static volatile BillingSettings snapshot;   // null until loaded
+
+    private BillingSettingsStore() {
+    }
+
+    public static void addListener(SettingsListener listener) {
+        listeners.add(listener);
+    }
+
+    public static void removeListener(SettingsListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Current settings; only the first call (or one after a failed load) queries
+     */
+    public static BillingSettings current() {
+        BillingSettings current = snapshot;
+        return current != null ? current : reload();
+    }
+
+    /**
+     * One version query; the rows are re-read only if it moved. Returns true
+     * if the snapshot was replaced.
+     */
+    public static boolean refreshIfChanged() {
+        BillingSettings current = snapshot;
+        if (current == null) {
+            reload();
+            return snapshot != null;
+        }
+        String version = queryVersion();
+        if (version == null || version.equals(current.getVersion())) {
+            return false;
+        }
+        reload();
+        return true;
+    }
+
+    /**
+     * Write one setting and replace the snapshot; false if the row doesn't exist or on error
+     */
+    public static boolean update(String settingName, String settingValue) {
+        String query = "UPDATE billing_settings SET setting_value = ? WHERE setting_name = ?";
+        try (Connection conn = DatabaseConnection.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(query)) {
+            pstmt.setString(1, settingValue);
+            pstmt.setString(2, settingName);
+            int rows = pstmt.executeUpdate();
+            if (rows > 0) {
+                reload();
+            }
+            return rows > 0;
+        } catch (SQLException e) {
+            System.err.println("❌ Error updating setting: " + e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Re-read every row and tell the listeners if the version moved. On a
+     * failed load the old snapshot stays (defaults if there is none).
+     */
+    static BillingSettings reload() {
+        BillingSettings before;
+        BillingSettings after;
+        synchronized (BillingSettingsStore.class) {
+            before = snapshot;
+            after = load();
+            if (after == null) {
+                return before != null ? before : BillingSettings.empty();
+            }
+            snapshot = after;
+        }
+        if (before != null && !before.getVersion().equals(after.getVersion())) {
+            for (SettingsListener listener : listeners) {
+                listener.onSettingsChanged(before, after);
+            }
+        }
+        return after;
+    }
+
+    private static BillingSettings load() {
+        String query = "SELECT setting_name, setting_value, updated_at FROM billing_settings";
+        try (Connection conn = DatabaseConnection.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(query);
+             ResultSet rs = pstmt.executeQuery()) {
+            Map<String, String> values = new HashMap<>();
+            Timestamp newest = null;
+            while (rs.next()) {
+                values.put(rs.getString(1), rs.getString(2));
+                Timestamp updatedAt = rs.getTimestamp(3);
+                if (newest == null || (updatedAt != null && updatedAt.after(newest))) {
+                    newest = updatedAt;
+                }
+            }
+            return new BillingSettings(values, version(values.size(), newest));
+        } catch (SQLException e) {
+            System.err.println("❌ Error loading billing settings: " + e.getMessage());
+            return null;
+        }
+    }
+
+    // null on error
+    private static String queryVersion() {
+        String query = "SELECT COUNT(*), MAX(updated_at) FROM billing_settings";
+        try (Connection conn = DatabaseConnection.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(query);
+             ResultSet rs = pstmt.executeQuery()) {
+            return rs.next() ? version(rs.getInt(1), rs.getTimestamp(2)) : null;
+        } catch (SQLException e) {
+            System.err.println("❌ Error checking billing settings: " + e.getMessage());
+            return null;
+        }
+    }
+
+    private static String version(int rows, Timestamp newest) {
+        return rows + ":" + newest;
+    }
+}
@@ -0,0 +1,85 @@
+package dao;
+
+import model.DataChange;
+import model.Room;
+import model.Tenant;
+import util.EntityCache;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToIntFunction;
+
+/**
+ * DataCache - The caches in front of the DAOs. Rooms almost never
+ * change, so a price or capacity lookup is answered from memory;
+ * the tenant list is kept briefly since every screen opens with it.
+ *
+ * The caches follow DataChangeBus: a created, updated or deleted row is
+ * patched into the cached list, so the next read after a single-row write
+ * still needs no query; INVALIDATED drops the entity's entries.
+ * Cached objects are shared between callers - don't modify them.
+ */
+public final class DataCache {
+    // Key of the caches that hold a whole table as one list
+    static final String ALL = "all";
+
+    static final EntityCache<String, List<Room>> ROOMS =
+            new EntityCache<>("rooms", 1, 5, TimeUnit.MINUTES);
+    static final EntityCache<String, Room> ROOMS_BY_NUMBER =
+            new EntityCache<>("room-by-number", 256, 5, TimeUnit.MINUTES);
+    static final EntityCache<String, List<Tenant>> TENANTS =
+            new EntityCache<>("tenants", 1, 30, TimeUnit.SECONDS);
+
+    static {
+        DataChangeBus.addDirectListener(DataCache::onDataChanged);
+    }
+
+    private DataCache() {
+    }
+
+    // Runs on the writing thread; synchronized so two patches can't both start from the same list
+    private static synchronized void onDataChanged(DataChange change) {
+        switch (change.getEntity()) {
+            case ROOM:
+                // A room's number can change, so the old by-number entry is unknown
+                ROOMS_BY_NUMBER.invalidateAll();
+                patch(ROOMS, change, change.getRoom(), Room::getId, null);
+                break;
+            case TENANT:
+                // Same order as the query (ORDER BY houseno)
+                patch(TENANTS, change, change.getTenant(), Tenant::getTenantId, Comparator.comparingInt(Tenant::getRoomNumber));
+                break;
+            default:
+                break;
+        }
+    }
+
+    /**
+     * Replace, add or remove the changed row in a cached list. A new row
+     * goes before the first one that sorts after it, or at the end when the
+     * list has no order.
+     */
+    private static <T> void patch(EntityCache<String, List<T>> cache, DataChange change, T row,
+                                  ToIntFunction<T> id, Comparator<T> order) {
+        List<T> current = cache.getIfPresent(ALL);
+        if (current == null || change.getOperation() == DataChange.Operation.INVALIDATED) {
+            cache.invalidateAll();   // also stops a load already in flight from storing older rows
+            return;
+        }
+        List<T> patched = new ArrayList<>(current);
+        patched.removeIf(existing -> id.applyAsInt(existing) == change.getId());
+        if (row != null) {
+            int at = patched.size();
+            for (int i = 0; order != null && i < patched.size(); i++) {
+                if (order.compare(patched.get(i), row) > 0) {
+                    at = i;
+                    break;
+                }
+            }
+            patched.add(at, row);
+        }
+        cache.put(ALL, Collections.unmodifiableList(patched));
+    }
+}
@@ -0,0 +1,61 @@
+package dao;
+
+import model.DataChange;
+import javax.swing.SwingUtilities;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * DataChangeBus - In-process notifications of DAO writes.
+ *
+ * Every DAO write method publishes a DataChange once its statement has
+ * committed, so open screens can patch the rows they show instead of
+ * reloading the whole table. Screen listeners are called on the EDT; cache
+ * listeners are called right away on the writing thread, so a screen that
+ * re-reads through DataCache already sees the change.
+ */
+public final class DataChangeBus {
+
+    public interface DataChangeListener {
+        void onDataChanged(DataChange change);
+    }
+
+    private static final List<DataChangeListener> listeners = new CopyOnWriteArrayList<>();
+    private static final List<DataChangeListener> directListeners = new CopyOnWriteArrayList<>();
+
+    private DataChangeBus() {
+    }
+
+    // Called on the EDT; remove it when the screen closes
+    public static void addListener(DataChangeListener listener) {
+        listeners.add(listener);
+    }
+
+    public static void removeListener(DataChangeListener listener) {
+        listeners.remove(listener);
+    }
+
+    // Called on the writing thread, before the EDT listeners; must be quick and thread-safe
+    static void addDirectListener(DataChangeListener listener) {
+        directListeners.add(listener);
+    }
+
+    public static void publish(DataChange change) {
+        for (DataChangeListener listener : directListeners) {
+            listener.onDataChanged(change);
+        }
+        if (listeners.isEmpty()) {
+            return;
+        }
+        Runnable notify = () -> {
+            for (DataChangeListener listener : listeners) {
+                listener.onDataChanged(change);
+            }
+        };
+        if (SwingUtilities.isEventDispatchThread()) {
+            notify.run();
+        } else {
+            SwingUtilities.invokeLater(notify);
+        }
+    }
+}
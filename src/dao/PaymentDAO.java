@@ -1,536 +1,705 @@
-package dao;
-
-import model.Payment;
-import java.sql.*;
-import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Locale;
-
-public class PaymentDAO {
-    
-    private final String url = "jdbc:mysql://localhost/houserent";
-    private final String user = "root";
-    private final String pass = "";
-    
-    // ✅ Your table name from database
-    private final String TABLE_NAME = "payments";
-    
-    // Get database connection
-    private Connection getConnection() throws SQLException {
-        try {
-            Class.forName("com.mysql.cj.jdbc.Driver");
-            return DriverManager.getConnection(url, user, pass);
-        } catch (ClassNotFoundException ex) {
-            throw new SQLException("MySQL Driver not found", ex);
-        }
-    }
-    
-    // Helper to safely get string with default
-    private String getStringOrDefault(ResultSet rs, String columnName, String defaultValue) {
-        try {
-            String value = rs.getString(columnName);
-            return value != null ? value : defaultValue;
-        } catch (SQLException e) {
-            return defaultValue;
-        }
-    }
-    
-    // Helper to safely get double with default
-    private double getDoubleOrDefault(ResultSet rs, String columnName, double defaultValue) {
-        try {
-            double v = rs.getDouble(columnName);
-            if (rs.wasNull()) return defaultValue;
-            return v;
-        } catch (SQLException e) {
-            return defaultValue;
-        }
-    }
-    
-    // Existing - Get all payments (unchanged)
-    public List<Payment> getAllPayments() {
-        List<Payment> payments = new ArrayList<>();
-        String sql = "SELECT * FROM " + TABLE_NAME + " ORDER BY payment_date DESC";
-        
-        try (Connection conn = getConnection();
-             Statement stmt = conn.createStatement();
-             ResultSet rs = stmt.executeQuery(sql)) {
-            
-            while (rs.next()) {
-                int id = rs.getInt("payment_id");
-                String tenantName = getStringOrDefault(rs, "tenant_name", "N/A");
-                String roomNumber = getStringOrDefault(rs, "room_number", "");
-                double totalAmount = getDoubleOrDefault(rs, "total_amount", 0.0);
-                double amountPaid = getDoubleOrDefault(rs, "amount_paid", 0.0);
-                String paymentType = getStringOrDefault(rs, "payment_type", "Full Payment");
-                double remainingBalance = getDoubleOrDefault(rs, "remaining_balance", 0.0);
-                String month = getStringOrDefault(rs, "month", "N/A");
-                Date dt = null;
-                try {
-                    dt = rs.getDate("payment_date");
-                } catch (SQLException ex) { dt = null; }
-                LocalDate paymentDate = dt != null ? dt.toLocalDate() : null;
-                String status = getStringOrDefault(rs, "status", "Pending");
-                String notes = getStringOrDefault(rs, "notes", "");
-                
-                Payment p = new Payment(id, tenantName, roomNumber, totalAmount, amountPaid, paymentType, remainingBalance, month, paymentDate, status, notes);
-                payments.add(p);
-            }
-        } catch (SQLException ex) {
-            System.err.println("Error loading payments: " + ex.getMessage());
-            ex.printStackTrace();
-        }
-        return payments;
-    }
-
-    /**
-     * NEW: Return a payment row for every tenant for the given month.
-     * If a payment row for that tenant/month does not exist, create a default one:
-     *  - amount_paid = 0
-     *  - payment_type = "Full Payment"
-     *  - remaining_balance = total_amount
-     *  - payment_date = NULL
-     *  - status = "Pending"
-     *
-     * Month format: used as-is. Recommended format: "MMMM yyyy" (e.g. "December 2025").
-     */
-   /**
- * Return a payment row for every tenant for the given month. 
- * If a payment row for that tenant/month does not exist, create a default one.
- */
-public List<Payment> getPaymentsForMonth(String month) {
-    List<Payment> payments = new ArrayList<>();
-    String tenantSql = "SELECT id, name, houseno, payment FROM records ORDER BY houseno";
-    String paymentLookupSql = "SELECT * FROM " + TABLE_NAME + " WHERE (tenant_name = ?  OR room_number = ?) AND month = ?  LIMIT 1";
-    
-    try (Connection conn = getConnection();
-         PreparedStatement tenantPst = conn.prepareStatement(tenantSql);
-         ResultSet trs = tenantPst.executeQuery()) {
-        
-        while (trs.next()) {
-            String tenantName = trs. getString("name");
-            int houseno = trs.getInt("houseno");
-            String roomNumber = String.valueOf(houseno);
-            double totalAmount = trs.getDouble("payment");
-            
-            // Check if payment exists for this tenant+month
-            try (PreparedStatement pst = conn.prepareStatement(paymentLookupSql)) {
-                pst.setString(1, tenantName);
-                pst.setString(2, roomNumber);
-                pst.setString(3, month);
-                try (ResultSet rs = pst. executeQuery()) {
-                    if (rs.next()) {
-                        // Payment exists - add it
-                        int id = rs.getInt("payment_id");
-                        String tName = getStringOrDefault(rs, "tenant_name", tenantName);
-                        String rNumber = getStringOrDefault(rs, "room_number", roomNumber);
-                        double tot = getDoubleOrDefault(rs, "total_amount", totalAmount);
-                        double amountPaid = getDoubleOrDefault(rs, "amount_paid", 0.0);
-                        String paymentType = getStringOrDefault(rs, "payment_type", "Full Payment");
-                        double remainingBalance = getDoubleOrDefault(rs, "remaining_balance", tot - amountPaid);
-                        String m = getStringOrDefault(rs, "month", month);
-                        Date dt = null;
-                        try { dt = rs.getDate("payment_date"); } catch (SQLException ex) { dt = null; }
-                        LocalDate paymentDate = dt != null ? dt. toLocalDate() : null;
-                        String status = getStringOrDefault(rs, "status", "Pending");
-                        String notes = getStringOrDefault(rs, "notes", "");
-                        
-                        Payment p = new Payment(id, tName, rNumber, tot, amountPaid, paymentType, remainingBalance, m, paymentDate, status, notes);
-                        payments.add(p);
-                        continue;
-                    }
-                }
-            }
-            
-            // Payment doesn't exist - create default
-            int generatedId = -1;
-            String insertSql = "INSERT INTO " + TABLE_NAME + " (tenant_name, room_number, total_amount, amount_paid, payment_type, remaining_balance, month, payment_date, status, notes) " +
-                               "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
-            try (PreparedStatement ins = conn.prepareStatement(insertSql, Statement.RETURN_GENERATED_KEYS)) {
-                ins. setString(1, tenantName);
-                ins.setString(2, roomNumber);
-                ins.setDouble(3, totalAmount);
-                ins.setDouble(4, 0.0);
-                ins. setString(5, "Full Payment");
-                ins.setDouble(6, totalAmount);
-                ins.setString(7, month);
-                ins.setNull(8, Types.DATE);
-                ins.setString(9, "Pending");
-                ins.setString(10, "");
-                
-                int rows = ins.executeUpdate();
-                if (rows > 0) {
-                    try (ResultSet gk = ins.getGeneratedKeys()) {
-                        if (gk.next()) {
-                            generatedId = gk.getInt(1);
-                        }
-                    }
-                }
-            } catch (SQLException ex) {
-                System.err.println("Warning: could not persist default payment for tenant=" + tenantName + " :  " + ex.getMessage());
-            }
-            
-            Payment p = new Payment(
-                generatedId > 0 ? generatedId :  0,
-                tenantName,
-                roomNumber,
-                totalAmount,
-                0.0,
-                "Full Payment",
-                totalAmount,
-                month,
-                null,
-                "Pending",
-                ""
-            );
-            payments.add(p);
-        }
-        
-    } catch (SQLException ex) {
-        ex.printStackTrace();
-    }
-    return payments;
-}
-    /**
-     * Ensure a default payment record exists for the given tenant/roomNumber/month.
-     * Returns true if a row existed or was created successfully.
-     */
-    public boolean ensurePaymentRecordExistsForTenantAndMonth(String tenantName, String roomNumber, double totalAmount, String month) {
-        String paymentLookupSql = "SELECT payment_id FROM " + TABLE_NAME + " WHERE (tenant_name = ? OR room_number = ?) AND month = ? LIMIT 1";
-        String insertSql = "INSERT INTO " + TABLE_NAME + " (tenant_name, room_number, total_amount, amount_paid, payment_type, remaining_balance, month, payment_date, status, notes) " +
-                           "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
-        try (Connection conn = getConnection()) {
-            try (PreparedStatement pst = conn.prepareStatement(paymentLookupSql)) {
-                pst.setString(1, tenantName);
-                pst.setString(2, roomNumber);
-                pst.setString(3, month);
-                try (ResultSet rs = pst.executeQuery()) {
-                    if (rs.next()) {
-                        return true; // already exists
-                    }
-                }
-            }
-            // insert default
-            try (PreparedStatement ins = conn.prepareStatement(insertSql)) {
-                ins.setString(1, tenantName);
-                ins.setString(2, roomNumber);
-                ins.setDouble(3, totalAmount);
-                ins.setDouble(4, 0.0);
-                ins.setString(5, "Full Payment");
-                ins.setDouble(6, totalAmount);
-                ins.setString(7, month);
-                ins.setNull(8, Types.DATE);
-                ins.setString(9, "Pending");
-                ins.setString(10, "");
-                int rows = ins.executeUpdate();
-                return rows > 0;
-            } catch (SQLException ex) {
-                System.err.println("Failed to insert default payment record: " + ex.getMessage());
-                return false;
-            }
-        } catch (SQLException ex) {
-            ex.printStackTrace();
-            return false;
-        }
-    }
-    
-    // Other existing methods left unchanged...
-    // addPayment, updatePayment, deletePayment, searchPayments, getPaymentsByTenant, getPaymentsByRoom, getTotalRevenue, getAllTenantNames, getRoomNumberByTenant
-    // (kept below for brevity - they remain the same as in your original file)
-    
-    // Add new payment
-    public boolean addPayment(Payment payment) {
-        String sql = "INSERT INTO " + TABLE_NAME + 
-                     " (tenant_name, room_number, total_amount, amount_paid, payment_type, remaining_balance, month, payment_date, status, notes) " +
-                     "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
-        
-        try (Connection conn = getConnection();
-             PreparedStatement pst = conn.prepareStatement(sql)) {
-            
-            pst.setString(1, payment.getTenantName());
-            pst.setString(2, payment.getRoomNumber());
-            pst.setDouble(3, payment.getTotalAmount());
-            pst.setDouble(4, payment.getAmountPaid());
-            pst.setString(5, payment.getPaymentType());
-            pst.setDouble(6, payment.getRemainingBalance());
-            pst.setString(7, payment.getMonth());
-            if (payment.getPaymentDate() != null) pst.setDate(8, Date.valueOf(payment.getPaymentDate()));
-            else pst.setNull(8, Types.DATE);
-            pst.setString(9, payment.getStatus());
-            pst.setString(10, payment.getNotes());
-            
-            int rowsAffected = pst.executeUpdate();
-            return rowsAffected > 0;
-            
-        } catch (SQLException ex) {
-            System.err.println("Error adding payment: " + ex.getMessage());
-            ex.printStackTrace();
-            return false;
-        }
-    }
-    
-    // Update payment - uses payment_id
-    public boolean updatePayment(Payment payment) {
-        String sql = "UPDATE " + TABLE_NAME + 
-                     " SET tenant_name = ?, room_number = ?, total_amount = ?, amount_paid = ?, payment_type = ?, remaining_balance = ?, month = ?, payment_date = ?, status = ?, notes = ? " +
-                     "WHERE payment_id = ?";
-        
-        try (Connection conn = getConnection();
-             PreparedStatement pst = conn.prepareStatement(sql)) {
-            
-            pst.setString(1, payment.getTenantName());
-            pst.setString(2, payment.getRoomNumber());
-            pst.setDouble(3, payment.getTotalAmount());
-            pst.setDouble(4, payment.getAmountPaid());
-            pst.setString(5, payment.getPaymentType());
-            pst.setDouble(6, payment.getRemainingBalance());
-            pst.setString(7, payment.getMonth());
-            if (payment.getPaymentDate() != null) pst.setDate(8, Date.valueOf(payment.getPaymentDate()));
-            else pst.setNull(8, Types.DATE);
-            pst.setString(9, payment.getStatus());
-            pst.setString(10, payment.getNotes());
-            pst.setInt(11, payment.getId());
-            
-            int rowsAffected = pst.executeUpdate();
-            return rowsAffected > 0;
-            
-        } catch (SQLException ex) {
-            ex.printStackTrace();
-            return false;
-        }
-    }
-    
-    // Delete payment
-    public boolean deletePayment(int paymentId) {
-        String sql = "DELETE FROM " + TABLE_NAME + " WHERE payment_id = ?";
-        
-        try (Connection conn = getConnection();
-             PreparedStatement pst = conn.prepareStatement(sql)) {
-            
-            pst.setInt(1, paymentId);
-            int rowsAffected = pst.executeUpdate();
-            return rowsAffected > 0;
-            
-        } catch (SQLException ex) {
-            ex.printStackTrace();
-            return false;
-        }
-    }
-    
-    // Search payments
-    public List<Payment> searchPayments(String searchValue) {
-        List<Payment> payments = new ArrayList<>();
-        String sql = "SELECT * FROM " + TABLE_NAME + 
-                     " WHERE tenant_name LIKE ? OR room_number LIKE ? OR month LIKE ? " +
-                     "ORDER BY payment_date DESC";
-        
-        try (Connection conn = getConnection();
-             PreparedStatement pst = conn.prepareStatement(sql)) {
-            
-            String searchPattern = "%" + searchValue + "%";
-            pst.setString(1, searchPattern);
-            pst.setString(2, searchPattern);
-            pst.setString(3, searchPattern);
-            
-            ResultSet rs = pst.executeQuery();
-            
-            while (rs.next()) {
-                int id = rs.getInt("payment_id");
-                String tenantName = getStringOrDefault(rs, "tenant_name", "N/A");
-                String roomNumber = getStringOrDefault(rs, "room_number", "");
-                double totalAmount = getDoubleOrDefault(rs, "total_amount", 0.0);
-                double amountPaid = getDoubleOrDefault(rs, "amount_paid", 0.0);
-                String paymentType = getStringOrDefault(rs, "payment_type", "Full Payment");
-                double remainingBalance = getDoubleOrDefault(rs, "remaining_balance", 0.0);
-                String month = getStringOrDefault(rs, "month", "N/A");
-                Date dt = null;
-                try {
-                    dt = rs.getDate("payment_date");
-                } catch (SQLException ex) { dt = null; }
-                LocalDate paymentDate = dt != null ? dt.toLocalDate() : null;
-                String status = getStringOrDefault(rs, "status", "Pending");
-                String notes = getStringOrDefault(rs, "notes", "");
-                
-                Payment p = new Payment(id, tenantName, roomNumber, totalAmount, amountPaid, paymentType, remainingBalance, month, paymentDate, status, notes);
-                payments.add(p);
-            }
-        } catch (SQLException ex) {
-            ex.printStackTrace();
-        }
-        return payments;
-    }
-    
-    // Get payments by tenant name
-    public List<Payment> getPaymentsByTenant(String tenantName) {
-        List<Payment> payments = new ArrayList<>();
-        String sql = "SELECT * FROM " + TABLE_NAME + 
-                     " WHERE tenant_name = ? ORDER BY payment_date DESC";
-        
-        try (Connection conn = getConnection();
-             PreparedStatement pst = conn.prepareStatement(sql)) {
-            
-            pst.setString(1, tenantName);
-            ResultSet rs = pst.executeQuery();
-            
-            while (rs.next()) {
-                int id = rs.getInt("payment_id");
-                String tName = getStringOrDefault(rs, "tenant_name", "N/A");
-                String roomNumber = getStringOrDefault(rs, "room_number", "");
-                double totalAmount = getDoubleOrDefault(rs, "total_amount", 0.0);
-                double amountPaid = getDoubleOrDefault(rs, "amount_paid", 0.0);
-                String paymentType = getStringOrDefault(rs, "payment_type", "Full Payment");
-                double remainingBalance = getDoubleOrDefault(rs, "remaining_balance", 0.0);
-                String month = getStringOrDefault(rs, "month", "N/A");
-                Date dt = null;
-                try {
-                    dt = rs.getDate("payment_date");
-                } catch (SQLException ex) { dt = null; }
-                LocalDate paymentDate = dt != null ? dt.toLocalDate() : null;
-                String status = getStringOrDefault(rs, "status", "Pending");
-                String notes = getStringOrDefault(rs, "notes", "");
-                
-                Payment p = new Payment(id, tName, roomNumber, totalAmount, amountPaid, paymentType, remainingBalance, month, paymentDate, status, notes);
-                payments.add(p);
-            }
-        } catch (SQLException ex) {
-            ex.printStackTrace();
-        }
-        return payments;
-    }
-    
-    // Get payments by room number
-    public List<Payment> getPaymentsByRoom(String roomNumber) {
-        List<Payment> payments = new ArrayList<>();
-        String sql = "SELECT * FROM " + TABLE_NAME + 
-                     " WHERE room_number = ? ORDER BY payment_date DESC";
-        
-        try (Connection conn = getConnection();
-             PreparedStatement pst = conn.prepareStatement(sql)) {
-            
-            pst.setString(1, roomNumber);
-            ResultSet rs = pst.executeQuery();
-            
-            while (rs.next()) {
-                int id = rs.getInt("payment_id");
-                String tName = getStringOrDefault(rs, "tenant_name", "N/A");
-                String rNumber = getStringOrDefault(rs, "room_number", "");
-                double totalAmount = getDoubleOrDefault(rs, "total_amount", 0.0);
-                double amountPaid = getDoubleOrDefault(rs, "amount_paid", 0.0);
-                String paymentType = getStringOrDefault(rs, "payment_type", "Full Payment");
-                double remainingBalance = getDoubleOrDefault(rs, "remaining_balance", 0.0);
-                String month = getStringOrDefault(rs, "month", "N/A");
-                Date dt = null;
-                try {
-                    dt = rs.getDate("payment_date");
-                } catch (SQLException ex) { dt = null; }
-                LocalDate paymentDate = dt != null ? dt.toLocalDate() : null;
-                String status = getStringOrDefault(rs, "status", "Pending");
-                String notes = getStringOrDefault(rs, "notes", "");
-                
-                Payment p = new Payment(id, tName, rNumber, totalAmount, amountPaid, paymentType, remainingBalance, month, paymentDate, status, notes);
-                payments.add(p);
-            }
-        } catch (SQLException ex) {
-            ex.printStackTrace();
-        }
-        return payments;
-    }
-    
-    // Get total revenue
-    public double getTotalRevenue() {
-        String sql = "SELECT SUM(amount_paid) as total FROM " + TABLE_NAME;
-        
-        try (Connection conn = getConnection();
-             Statement stmt = conn.createStatement();
-             ResultSet rs = stmt.executeQuery(sql)) {
-            
-            if (rs.next()) {
-                return rs.getDouble("total");
-            }
-        } catch (SQLException ex) {
-            ex.printStackTrace();
-        }
-        return 0.0;
-    }
-    
-    // Get tenant names (for dropdown/autocomplete)
-    public List<String> getAllTenantNames() {
-        List<String> names = new ArrayList<>();
-        String sql = "SELECT DISTINCT tenant_name FROM " + TABLE_NAME + " ORDER BY tenant_name";
-        
-        try (Connection conn = getConnection();
-             Statement stmt = conn.createStatement();
-             ResultSet rs = stmt.executeQuery(sql)) {
-            
-            while (rs.next()) {
-                names.add(rs.getString("tenant_name"));
-            }
-        } catch (SQLException ex) {
-            ex.printStackTrace();
-        }
-        return names;
-    }
-    
-    // Get tenant info by name (to auto-fill room number)
-    public String getRoomNumberByTenant(String tenantName) {
-        String sql = "SELECT room_number FROM " + TABLE_NAME + " WHERE tenant_name = ? LIMIT 1";
-        
-        try (Connection conn = getConnection();
-             PreparedStatement pst = conn.prepareStatement(sql)) {
-            
-            pst.setString(1, tenantName);
-            ResultSet rs = pst.executeQuery();
-            
-            if (rs.next()) {
-                return String.valueOf(rs.getInt("room_number"));
-            }
-        } catch (SQLException ex) {
-            ex.printStackTrace();
-        }
-        return "";
-    }
-    
-    /**
- * Get payment for specific tenant and month
- * Returns null if not found
- */
-public Payment getPaymentForTenantAndMonth(String tenantName, String roomNumber, String month) {
-    String sql = "SELECT * FROM " + TABLE_NAME + 
-                 " WHERE (tenant_name = ? OR room_number = ?) AND month = ? LIMIT 1";
-    
-    try (Connection conn = getConnection();
-         PreparedStatement pst = conn.prepareStatement(sql)) {
-        
-        pst.setString(1, tenantName);
-        pst.setString(2, roomNumber);
-        pst.setString(3, month);
-        
-        ResultSet rs = pst.executeQuery();
-        
-        if (rs.next()) {
-            int id = rs.getInt("payment_id");
-            String tName = getStringOrDefault(rs, "tenant_name", "N/A");
-            String rNumber = getStringOrDefault(rs, "room_number", "");
-            double totalAmount = getDoubleOrDefault(rs, "total_amount", 0.0);
-            double amountPaid = getDoubleOrDefault(rs, "amount_paid", 0.0);
-            String paymentType = getStringOrDefault(rs, "payment_type", "Full Payment");
-            double remainingBalance = getDoubleOrDefault(rs, "remaining_balance", 0.0);
-            String m = getStringOrDefault(rs, "month", "N/A");
-            Date dt = null;
-            try {
-                dt = rs.getDate("payment_date");
-            } catch (SQLException ex) { dt = null; }
-            LocalDate paymentDate = dt != null ? dt.toLocalDate() : null;
-            String status = getStringOrDefault(rs, "status", "Pending");
-            String notes = getStringOrDefault(rs, "notes", "");
-            
-            return new Payment(id, tName, rNumber, totalAmount, amountPaid, paymentType, remainingBalance, m, paymentDate, status, notes);
-        }
-    } catch (SQLException ex) {
-        ex.printStackTrace();
-    }
-    return null;
-}
-}
-
+package dao;
+
+import model.BillingPeriod;
+import model.DataChange;
+import model.Money;
+import model.Payment;
+import model.PaymentCursor;
+import model.PaymentFilter;
+import model.PaymentStats;
+import util.ColumnIndex;
+import util.DatabaseConnection;
+import util.ResultStream;
+import util.SearchQuery;
+import java.sql.*;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+public class PaymentDAO {
+    
+    // ✅ Your table name from database
+    private final String TABLE_NAME = "payments";
+    
+    // Max tenant ids bound into one default-row insert in getPaymentsForMonth
+    private static final int DEFAULT_INSERT_CHUNK = 500;
+    
+    // Get database connection (borrowed from the shared pool)
+    private Connection getConnection() throws SQLException {
+        return DatabaseConnection.getConnection();
+    }
+    
+    // Existing - Get all payments (unchanged)
+    public List<Payment> getAllPayments() {
+        List<Payment> payments = new ArrayList<>();
+        String sql = "SELECT * FROM " + TABLE_NAME + " ORDER BY payment_date DESC";
+        
+        try (Connection conn = getConnection();
+             Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery(sql)) {
+            
+            PaymentRowMapper mapper = new PaymentRowMapper();
+            while (rs.next()) {
+                payments.add(mapper.map(rs));
+            }
+        } catch (SQLException ex) {
+            System.err.println("Error loading payments: " + ex.getMessage());
+            ex.printStackTrace();
+        }
+        return payments;
+    }
+
+    /**
+     * NEW: Return a payment row for every tenant for the given billing period.
+     * If a payment row for that tenant/period does not exist, create a default one:
+     *  - amount_paid = 0
+     *  - payment_type = "Full Payment"
+     *  - remaining_balance = total_amount
+     *  - payment_date = NULL
+     *  - status = "Pending"
+     *
+     * Runs a fixed number of statements however many tenants there are:
+     * one LEFT JOIN of records to payments, and only if rows are missing,
+     * one insert-if-absent for all of them followed by a second LEFT JOIN
+     * to pick up the generated ids.
+     */
+    public List<Payment> getPaymentsForMonth(YearMonth period) {
+        try (Connection conn = getConnection()) {
+            List<MonthRow> rows = loadMonthRows(conn, period);
+            List<Integer> missingTenantIds = planDefaultPayments(rows);
+            if (!missingTenantIds.isEmpty()) {
+                try {
+                    insertDefaultPayments(conn, missingTenantIds, period);
+                    DataChangeBus.publish(DataChange.invalidated(DataChange.Entity.PAYMENT));
+                    rows = loadMonthRows(conn, period);
+                } catch (SQLException ex) {
+                    System.err.println("Warning: could not persist default payments for " + BillingPeriod.format(period) + " :  " + ex.getMessage());
+                }
+            }
+            return toMonthPayments(rows, period);
+        } catch (SQLException ex) {
+            ex.printStackTrace();
+        }
+        return new ArrayList<>();
+    }
+
+    // One tenant from records, with the payment row matched for the month (or null)
+    private static class MonthRow {
+        final int tenantId;
+        final String tenantName;
+        final String roomNumber;
+        final long totalAmount;
+        final Payment payment;
+
+        MonthRow(int tenantId, String tenantName, String roomNumber, long totalAmount, Payment payment) {
+            this.tenantId = tenantId;
+            this.tenantName = tenantName;
+            this.roomNumber = roomNumber;
+            this.totalAmount = totalAmount;
+            this.payment = payment;
+        }
+    }
+
+    /**
+     * Every tenant joined to its own payment for the period through
+     * payments.tenant_id. A tenant with several rows for the period (extra
+     * payments) shows the lowest payment_id.
+     */
+    private List<MonthRow> loadMonthRows(Connection conn, YearMonth period) throws SQLException {
+        String sql = "SELECT r.id AS r_id, r.name AS r_name, r.houseno AS r_houseno, r.payment AS r_payment, p.* " +
+                     "FROM records r " +
+                     "LEFT JOIN " + TABLE_NAME + " p ON p.tenant_id = r.id AND p.period = ? " +
+                     "ORDER BY r.houseno, r.id, p.payment_id";
+        List<MonthRow> rows = new ArrayList<>();
+        try (PreparedStatement pst = conn.prepareStatement(sql)) {
+            pst.setInt(1, BillingPeriod.toKey(period));
+            try (ResultSet rs = pst.executeQuery()) {
+                ColumnIndex columns = ColumnIndex.of(rs);
+                int rId = columns.require("r_id");
+                int rName = columns.require("r_name");
+                int rHouseno = columns.require("r_houseno");
+                int rPayment = columns.require("r_payment");
+                int paymentId = columns.require("payment_id");
+                PaymentRowMapper paymentMapper = new PaymentRowMapper();
+
+                int lastTenantId = Integer.MIN_VALUE;
+                while (rs.next()) {
+                    int tenantId = rs.getInt(rId);
+                    if (tenantId == lastTenantId) continue; // extra matches for the same tenant
+                    lastTenantId = tenantId;
+
+                    String tenantName = rs.getString(rName);
+                    String roomNumber = String.valueOf(rs.getInt(rHouseno));
+                    long totalAmount = Money.fromDecimal(rs.getBigDecimal(rPayment));
+
+                    Payment payment = null;
+                    rs.getInt(paymentId);
+                    if (!rs.wasNull()) {
+                        payment = paymentMapper.map(rs);
+                        payment.setTenantId(tenantId);
+                        payment.setPeriod(period);
+                    }
+                    rows.add(new MonthRow(tenantId, tenantName, roomNumber, totalAmount, payment));
+                }
+            }
+        }
+        return rows;
+    }
+
+    // Tenants that have no payment row for the month yet
+    private List<Integer> planDefaultPayments(List<MonthRow> rows) {
+        List<Integer> tenantIds = new ArrayList<>();
+        for (MonthRow row : rows) {
+            if (row.payment == null) {
+                tenantIds.add(row.tenantId);
+            }
+        }
+        return tenantIds;
+    }
+
+    /**
+     * Insert-if-absent default rows for the given tenants in one statement
+     * per chunk of DEFAULT_INSERT_CHUNK ids
+     */
+    private void insertDefaultPayments(Connection conn, List<Integer> tenantIds, YearMonth period) throws SQLException {
+        for (int from = 0; from < tenantIds.size(); from += DEFAULT_INSERT_CHUNK) {
+            List<Integer> chunk = tenantIds.subList(from, Math.min(from + DEFAULT_INSERT_CHUNK, tenantIds.size()));
+            String placeholders = String.join(", ", Collections.nCopies(chunk.size(), "?"));
+            String sql = "INSERT INTO " + TABLE_NAME + " (tenant_id, tenant_name, room_number, total_amount, amount_paid, payment_type, remaining_balance, month, period, payment_date, status, notes) " +
+                         "SELECT r.id, r.name, CAST(r.houseno AS CHAR), r.payment, 0, 'Full Payment', r.payment, ?, ?, NULL, 'Pending', '' " +
+                         "FROM records r WHERE r.id IN (" + placeholders + ") " +
+                         "AND NOT EXISTS (SELECT 1 FROM " + TABLE_NAME + " p WHERE p.tenant_id = r.id AND p.period = ?)";
+            try (PreparedStatement ins = conn.prepareStatement(sql)) {
+                int i = 1;
+                ins.setString(i++, BillingPeriod.format(period));
+                ins.setInt(i++, BillingPeriod.toKey(period));
+                for (Integer tenantId : chunk) {
+                    ins.setInt(i++, tenantId);
+                }
+                ins.setInt(i, BillingPeriod.toKey(period));
+                ins.executeUpdate();
+            }
+        }
+    }
+
+    /**
+     * One Payment per tenant, in tenant order. Tenants still without a row
+     * (insert failed) get an unsaved default with id 0, as before.
+     */
+    private List<Payment> toMonthPayments(List<MonthRow> rows, YearMonth period) {
+        List<Payment> payments = new ArrayList<>(rows.size());
+        for (MonthRow row : rows) {
+            if (row.payment != null) {
+                payments.add(row.payment);
+            } else {
+                Payment payment = new Payment(0, row.tenantName, row.roomNumber, row.totalAmount, 0L,
+                        "Full Payment", row.totalAmount, null, null, "Pending", "");
+                payment.setTenantId(row.tenantId);
+                payment.setPeriod(period);
+                payments.add(payment);
+            }
+        }
+        return payments;
+    }
+
+    /**
+     * Ensure a default payment record exists for the given tenant (records.id) and period,
+     * billed at the tenant's monthly rate.
+     * Returns true if a row existed or was created successfully.
+     */
+    public boolean ensurePaymentRecordExistsForTenantAndMonth(int tenantId, YearMonth period) {
+        String sql = "INSERT INTO " + TABLE_NAME + " (tenant_id, tenant_name, room_number, total_amount, amount_paid, payment_type, remaining_balance, month, period, payment_date, status, notes) " +
+                     "SELECT r.id, r.name, CAST(r.houseno AS CHAR), r.payment, 0, 'Full Payment', r.payment, ?, ?, NULL, 'Pending', '' " +
+                     "FROM records r WHERE r.id = ? " +
+                     "AND NOT EXISTS (SELECT 1 FROM " + TABLE_NAME + " p WHERE p.tenant_id = r.id AND p.period = ?)";
+        try (Connection conn = getConnection();
+             PreparedStatement pst = conn.prepareStatement(sql)) {
+            pst.setString(1, BillingPeriod.format(period));
+            pst.setInt(2, BillingPeriod.toKey(period));
+            pst.setInt(3, tenantId);
+            pst.setInt(4, BillingPeriod.toKey(period));
+            if (pst.executeUpdate() > 0) {
+                DataChangeBus.publish(DataChange.invalidated(DataChange.Entity.PAYMENT));
+            }
+            return getPaymentForTenantAndMonth(tenantId, period) != null;
+        } catch (SQLException ex) {
+            System.err.println("Failed to insert default payment record: " + ex.getMessage());
+            ex.printStackTrace();
+            return false;
+        }
+    }
+    
+    // Other existing methods left unchanged...
+    // addPayment, updatePayment, deletePayment, searchPayments, getPaymentsByTenant, getPaymentsByRoom, getTotalRevenue
+    // (kept below for brevity - they remain the same as in your original file)
+    
+    // Add new payment
+    public boolean addPayment(Payment payment) {
+        String sql = "INSERT INTO " + TABLE_NAME + 
+                     " (tenant_id, tenant_name, room_number, total_amount, amount_paid, payment_type, remaining_balance, month, period, payment_date, status, notes) " +
+                     "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+        
+        try (Connection conn = getConnection();
+             PreparedStatement pst = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+            
+            if (payment.getTenantId() > 0) pst.setInt(1, payment.getTenantId());
+            else pst.setNull(1, Types.INTEGER);
+            pst.setString(2, payment.getTenantName());
+            pst.setString(3, payment.getRoomNumber());
+            pst.setBigDecimal(4, Money.toDecimal(payment.getTotalAmount()));
+            pst.setBigDecimal(5, Money.toDecimal(payment.getAmountPaid()));
+            pst.setString(6, payment.getPaymentType());
+            pst.setBigDecimal(7, Money.toDecimal(payment.getRemainingBalance()));
+            pst.setString(8, payment.getMonth());
+            setPeriod(pst, 9, payment.getPeriod());
+            if (payment.getPaymentDate() != null) pst.setDate(10, Date.valueOf(payment.getPaymentDate()));
+            else pst.setNull(10, Types.DATE);
+            pst.setString(11, payment.getStatus());
+            pst.setString(12, payment.getNotes());
+            
+            int rowsAffected = pst.executeUpdate();
+            if (rowsAffected > 0) {
+                try (ResultSet keys = pst.getGeneratedKeys()) {
+                    payment.setId(keys.next() ? keys.getInt(1) : 0);
+                }
+                DataChangeBus.publish(payment.getId() > 0 ? DataChange.created(payment) : DataChange.invalidated(DataChange.Entity.PAYMENT));
+            }
+            return rowsAffected > 0;
+            
+        } catch (SQLException ex) {
+            System.err.println("Error adding payment: " + ex.getMessage());
+            ex.printStackTrace();
+            return false;
+        }
+    }
+    
+    // Update payment - uses payment_id
+    public boolean updatePayment(Payment payment) {
+        String sql = "UPDATE " + TABLE_NAME + 
+                     " SET tenant_name = ?, room_number = ?, total_amount = ?, amount_paid = ?, payment_type = ?, remaining_balance = ?, month = ?, period = ?, payment_date = ?, status = ?, notes = ? " +
+                     "WHERE payment_id = ?";
+        
+        try (Connection conn = getConnection();
+             PreparedStatement pst = conn.prepareStatement(sql)) {
+            
+            pst.setString(1, payment.getTenantName());
+            pst.setString(2, payment.getRoomNumber());
+            pst.setBigDecimal(3, Money.toDecimal(payment.getTotalAmount()));
+            pst.setBigDecimal(4, Money.toDecimal(payment.getAmountPaid()));
+            pst.setString(5, payment.getPaymentType());
+            pst.setBigDecimal(6, Money.toDecimal(payment.getRemainingBalance()));
+            pst.setString(7, payment.getMonth());
+            setPeriod(pst, 8, payment.getPeriod());
+            if (payment.getPaymentDate() != null) pst.setDate(9, Date.valueOf(payment.getPaymentDate()));
+            else pst.setNull(9, Types.DATE);
+            pst.setString(10, payment.getStatus());
+            pst.setString(11, payment.getNotes());
+            pst.setInt(12, payment.getId());
+            
+            int rowsAffected = pst.executeUpdate();
+            if (rowsAffected > 0) {
+                DataChangeBus.publish(DataChange.updated(payment));
+            }
+            return rowsAffected > 0;
+            
+        } catch (SQLException ex) {
+            ex.printStackTrace();
+            return false;
+        }
+    }
+    
+    // Delete payment
+    public boolean deletePayment(int paymentId) {
+        String sql = "DELETE FROM " + TABLE_NAME + " WHERE payment_id = ?";
+        
+        try (Connection conn = getConnection();
+             PreparedStatement pst = conn.prepareStatement(sql)) {
+            
+            pst.setInt(1, paymentId);
+            int rowsAffected = pst.executeUpdate();
+            if (rowsAffected > 0) {
+                DataChangeBus.publish(DataChange.deleted(DataChange.Entity.PAYMENT, paymentId));
+            }
+            return rowsAffected > 0;
+            
+        } catch (SQLException ex) {
+            ex.printStackTrace();
+            return false;
+        }
+    }
+    
+    // Search payments (tenant name, room number, month name or year), best matches first
+    public List<Payment> searchPayments(String searchValue) {
+        return searchPayments(searchValue, SearchQuery.DEFAULT_LIMIT);
+    }
+    
+    /**
+     * Relevance-ranked payment search on the ngram FULLTEXT index over
+     * tenant_name and room_number, capped at limit rows. A month name or
+     * year in the input filters on period instead (see addSearchConditions).
+     * Input shorter than the ngram size falls back to a name/room prefix
+     * match, newest first.
+     */
+    public List<Payment> searchPayments(String searchValue, int limit) {
+        List<Payment> payments = new ArrayList<>();
+        SearchQuery query = SearchQuery.parseWithPeriod(searchValue);
+        if (query.isEmpty()) {
+            return payments;
+        }
+        
+        List<Object> params = new ArrayList<>();
+        String select = "SELECT *";
+        String orderBy = " ORDER BY payment_date DESC";
+        if (query.hasFullText()) {
+            select = "SELECT *, MATCH(tenant_name, room_number) AGAINST(? IN BOOLEAN MODE) AS score";
+            orderBy = " ORDER BY score DESC";
+            params.add(query.getBooleanQuery());
+        }
+        List<String> conditions = new ArrayList<>();
+        addSearchConditions(conditions, params, query);
+        String sql = select + " FROM " + TABLE_NAME + where(conditions) + orderBy + " LIMIT ?";
+        params.add(limit);
+        
+        try (Connection conn = getConnection();
+             PreparedStatement pst = conn.prepareStatement(sql)) {
+            
+            bindParams(pst, params);
+            try (ResultSet rs = pst.executeQuery()) {
+                PaymentRowMapper mapper = new PaymentRowMapper();
+                while (rs.next()) {
+                    payments.add(mapper.map(rs));
+                }
+            }
+        } catch (SQLException ex) {
+            ex.printStackTrace();
+        }
+        return payments;
+    }
+    
+    // Get payments for one tenant (records.id), newest first
+    public List<Payment> getPaymentsByTenant(int tenantId) {
+        List<Payment> payments = new ArrayList<>();
+        String sql = "SELECT * FROM " + TABLE_NAME + 
+                     " WHERE tenant_id = ? ORDER BY payment_date DESC";
+        
+        try (Connection conn = getConnection();
+             PreparedStatement pst = conn.prepareStatement(sql)) {
+            
+            pst.setInt(1, tenantId);
+            try (ResultSet rs = pst.executeQuery()) {
+                PaymentRowMapper mapper = new PaymentRowMapper();
+                while (rs.next()) {
+                    payments.add(mapper.map(rs));
+                }
+            }
+        } catch (SQLException ex) {
+            ex.printStackTrace();
+        }
+        return payments;
+    }
+    
+    // Get payments by room number
+    public List<Payment> getPaymentsByRoom(String roomNumber) {
+        List<Payment> payments = new ArrayList<>();
+        String sql = "SELECT * FROM " + TABLE_NAME + 
+                     " WHERE room_number = ? ORDER BY payment_date DESC";
+        
+        try (Connection conn = getConnection();
+             PreparedStatement pst = conn.prepareStatement(sql)) {
+            
+            pst.setString(1, roomNumber);
+            try (ResultSet rs = pst.executeQuery()) {
+                PaymentRowMapper mapper = new PaymentRowMapper();
+                while (rs.next()) {
+                    payments.add(mapper.map(rs));
+                }
+            }
+        } catch (SQLException ex) {
+            ex.printStackTrace();
+        }
+        return payments;
+    }
+    
+    // Get total revenue (centavos), summed exactly as DECIMAL by the database
+    public long getTotalRevenue() {
+        String sql = "SELECT SUM(amount_paid) as total FROM " + TABLE_NAME;
+        
+        try (Connection conn = getConnection();
+             Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery(sql)) {
+            
+            if (rs.next()) {
+                return Money.fromDecimal(rs.getBigDecimal("total"));
+            }
+        } catch (SQLException ex) {
+            ex.printStackTrace();
+        }
+        return 0L;
+    }
+
+    /**
+     * Stat card totals for the payments matching a filter, aggregated in one
+     * query (SUM + conditional COUNTs) so nothing is formatted and re-parsed
+     * on the client. A missing status counts as Pending, like the table shows it.
+     * With a period range it reads only that range of idx_payments_period;
+     * without one it aggregates the whole table, which is why Payment
+     * Records opens on the current period.
+     */
+    public PaymentStats getPaymentStats(PaymentFilter filter) {
+        List<Object> params = new ArrayList<>();
+        String sql = "SELECT COUNT(*) AS payment_count, " +
+                     "COALESCE(SUM(amount_paid), 0) AS total_collected, " +
+                     "COALESCE(SUM(CASE WHEN status = 'Fully Paid' THEN 1 ELSE 0 END), 0) AS fully_paid, " +
+                     "COALESCE(SUM(CASE WHEN status = 'Pending' OR status IS NULL THEN 1 ELSE 0 END), 0) AS pending, " +
+                     "COALESCE(SUM(CASE WHEN status = 'Overdue' THEN 1 ELSE 0 END), 0) AS overdue " +
+                     "FROM " + TABLE_NAME + where(filterConditions(filter, params));
+
+        try (Connection conn = getConnection();
+             PreparedStatement pst = conn.prepareStatement(sql)) {
+
+            bindParams(pst, params);
+            try (ResultSet rs = pst.executeQuery()) {
+                if (rs.next()) {
+                    return new PaymentStats(
+                        rs.getInt("payment_count"),
+                        Money.fromDecimal(rs.getBigDecimal("total_collected")),
+                        rs.getInt("fully_paid"),
+                        rs.getInt("pending"),
+                        rs.getInt("overdue")
+                    );
+                }
+            }
+        } catch (SQLException ex) {
+            System.err.println("Error loading payment stats: " + ex.getMessage());
+            ex.printStackTrace();
+        }
+        return PaymentStats.empty();
+    }
+
+    /**
+     * One page of payment history, newest first, starting right after the
+     * given cursor (null = first page). Uses a keyset seek on
+     * (payment_date, payment_id) instead of OFFSET, so page 1000 costs the
+     * same as page 1.
+     */
+    public List<Payment> getPaymentsPage(PaymentFilter filter, PaymentCursor after, int limit) {
+        List<Payment> payments = new ArrayList<>();
+        List<Object> params = new ArrayList<>();
+        List<String> conditions = filterConditions(filter, params);
+        addSeekCondition(conditions, params, after);
+        String sql = "SELECT * FROM " + TABLE_NAME + where(conditions) +
+                     " ORDER BY payment_date DESC, payment_id DESC LIMIT ?";
+        params.add(limit);
+
+        try (Connection conn = getConnection();
+             PreparedStatement pst = conn.prepareStatement(sql)) {
+
+            bindParams(pst, params);
+            try (ResultSet rs = pst.executeQuery()) {
+                PaymentRowMapper mapper = new PaymentRowMapper();
+                while (rs.next()) {
+                    payments.add(mapper.map(rs));
+                }
+            }
+        } catch (SQLException ex) {
+            System.err.println("Error loading payment page: " + ex.getMessage());
+            ex.printStackTrace();
+        }
+        return payments;
+    }
+
+    /**
+     * Cursor of the row rowsAhead rows after the given cursor, i.e. where
+     * the page that follows those rows starts. One query reading only the
+     * key columns, so a table can jump any number of pages ahead without
+     * loading the rows in between. Returns null if fewer rows are left.
+     */
+    public PaymentCursor findPageEnd(PaymentFilter filter, PaymentCursor after, int rowsAhead) {
+        List<Object> params = new ArrayList<>();
+        List<String> conditions = filterConditions(filter, params);
+        addSeekCondition(conditions, params, after);
+        String sql = "SELECT payment_date, payment_id FROM " + TABLE_NAME + where(conditions) +
+                     " ORDER BY payment_date DESC, payment_id DESC LIMIT 1 OFFSET ?";
+        params.add(rowsAhead - 1);
+
+        try (Connection conn = getConnection();
+             PreparedStatement pst = conn.prepareStatement(sql)) {
+
+            bindParams(pst, params);
+            try (ResultSet rs = pst.executeQuery()) {
+                if (rs.next()) {
+                    Date dt = rs.getDate("payment_date");
+                    return new PaymentCursor(dt != null ? dt.toLocalDate() : null, rs.getInt("payment_id"));
+                }
+            }
+        } catch (SQLException ex) {
+            ex.printStackTrace();
+        }
+        return null;
+    }
+
+    /**
+     * Every payment matching the filter, newest first, as a lazy Stream read
+     * through a server-side cursor (DatabaseConfig db.fetchSize). Memory use
+     * stays flat however many rows there are. The stream holds a pooled
+     * connection until closed, so use try-with-resources.
+     */
+    public Stream<Payment> streamPayments(PaymentFilter filter) throws SQLException {
+        return streamPayments(filter, DatabaseConnection.getFetchSize());
+    }
+
+    public Stream<Payment> streamPayments(PaymentFilter filter, int fetchSize) throws SQLException {
+        List<Object> params = new ArrayList<>();
+        String sql = "SELECT * FROM " + TABLE_NAME + where(filterConditions(filter, params)) +
+                     " ORDER BY payment_date DESC, payment_id DESC";
+
+        Connection conn = getConnection();
+        PreparedStatement pst = null;
+        try {
+            pst = ResultStream.prepare(conn, sql, fetchSize);
+            bindParams(pst, params);
+        } catch (SQLException ex) {
+            ResultStream.closeQuietly(pst, conn);
+            throw ex;
+        }
+        return ResultStream.open(conn, pst, new PaymentRowMapper());
+    }
+
+    /**
+     * Hand every payment matching the filter to action, one row at a time.
+     * Returns false if reading failed part way (rows already handed over stay handed over).
+     */
+    public boolean forEachPayment(PaymentFilter filter, Consumer<Payment> action) {
+        try (Stream<Payment> payments = streamPayments(filter)) {
+            payments.forEach(action);
+            return true;
+        } catch (SQLException ex) {
+            System.err.println("Error streaming payments: " + ex.getMessage());
+            ex.printStackTrace();
+        } catch (ResultStream.ReadException ex) {
+            System.err.println("Error streaming payments: " + ex.getMessage());
+            ex.getSQLException().printStackTrace();
+        }
+        return false;
+    }
+
+    // WHERE conditions for a PaymentFilter; values go into params in order
+    private List<String> filterConditions(PaymentFilter filter, List<Object> params) {
+        List<String> conditions = new ArrayList<>();
+        if (filter == null) {
+            return conditions;
+        }
+        // Billing period range: an index range scan on idx_payments_period
+        if (filter.getFromPeriod() != null) {
+            conditions.add("period >= ?");
+            params.add(BillingPeriod.toKey(filter.getFromPeriod()));
+        }
+        if (filter.getToPeriod() != null) {
+            conditions.add("period <= ?");
+            params.add(BillingPeriod.toKey(filter.getToPeriod()));
+        }
+        if (filter.hasStatus()) {
+            if ("Pending".equalsIgnoreCase(filter.getStatus())) {
+                conditions.add("(status = ? OR status IS NULL)");
+            } else {
+                conditions.add("status = ?");
+            }
+            params.add(filter.getStatus());
+        }
+        if (filter.hasSearchText()) {
+            // Same conditions as searchPayments
+            addSearchConditions(conditions, params, SearchQuery.parseWithPeriod(filter.getSearchText()));
+        }
+        return conditions;
+    }
+
+    // Words go to the full-text index on tenant_name and room_number (or the
+    // prefix fallback); a month name and year filter on period, since the
+    // month text's ngrams are in nearly every row (see V10)
+    private void addSearchConditions(List<String> conditions, List<Object> params, SearchQuery query) {
+        if (query.hasFullText()) {
+            conditions.add("MATCH(tenant_name, room_number) AGAINST(? IN BOOLEAN MODE)");
+            params.add(query.getBooleanQuery());
+        } else if (!query.getText().isEmpty()) {
+            conditions.add("(tenant_name LIKE ? OR room_number LIKE ?)");
+            params.add(query.getPrefixPattern());
+            params.add(query.getPrefixPattern());
+        }
+        Integer year = query.getYear();
+        if (year != null && query.getMonth() != null) {
+            conditions.add("period = ?");
+            params.add(BillingPeriod.toKey(YearMonth.of(year, query.getMonth())));
+        } else if (year != null) {
+            // Index range scan on idx_payments_period
+            conditions.add("period BETWEEN ? AND ?");
+            params.add(BillingPeriod.toKey(YearMonth.of(year, 1)));
+            params.add(BillingPeriod.toKey(YearMonth.of(year, 12)));
+        } else if (query.getMonth() != null) {
+            // Any year's month: no index for this, it narrows the other conditions
+            conditions.add("period % 100 = ?");
+            params.add(query.getMonth().getValue());
+        }
+    }
+
+    // Rows strictly after the cursor in payment_date DESC, payment_id DESC order
+    // (MySQL sorts NULL dates last when descending)
+    private void addSeekCondition(List<String> conditions, List<Object> params, PaymentCursor after) {
+        if (after == null) {
+            return;
+        }
+        if (after.getPaymentDate() != null) {
+            Date date = Date.valueOf(after.getPaymentDate());
+            conditions.add("(payment_date < ? OR (payment_date = ? AND payment_id < ?) OR payment_date IS NULL)");
+            params.add(date);
+            params.add(date);
+        } else {
+            conditions.add("(payment_date IS NULL AND payment_id < ?)");
+        }
+        params.add(after.getPaymentId());
+    }
+
+    private String where(List<String> conditions) {
+        return conditions.isEmpty() ? "" : " WHERE " + String.join(" AND ", conditions);
+    }
+
+    // payments.period as yyyymm, NULL when the payment has no period
+    private void setPeriod(PreparedStatement pst, int index, YearMonth period) throws SQLException {
+        if (period != null) pst.setInt(index, BillingPeriod.toKey(period));
+        else pst.setNull(index, Types.INTEGER);
+    }
+
+    private void bindParams(PreparedStatement pst, List<Object> params) throws SQLException {
+        for (int i = 0; i < params.size(); i++) {
+            pst.setObject(i + 1, params.get(i));
+        }
+    }
+
+    /**
+     * Get payment for a specific tenant (records.id) and billing period
+     * Returns null if not found
+     */
+    public Payment getPaymentForTenantAndMonth(int tenantId, YearMonth period) {
+        String sql = "SELECT * FROM " + TABLE_NAME + 
+                     " WHERE tenant_id = ? AND period = ? ORDER BY payment_id LIMIT 1";
+        
+        try (Connection conn = getConnection();
+             PreparedStatement pst = conn.prepareStatement(sql)) {
+            
+            pst.setInt(1, tenantId);
+            pst.setInt(2, BillingPeriod.toKey(period));
+            try (ResultSet rs = pst.executeQuery()) {
+                if (rs.next()) {
+                    return new PaymentRowMapper().map(rs);
+                }
+            }
+        } catch (SQLException ex) {
+            ex.printStackTrace();
+        }
+        return null;
+    }
+}
@@ -0,0 +1,60 @@
+package dao;
+
+import model.BillingPeriod;
+import model.Money;
+import model.Payment;
+import util.ColumnIndex;
+import util.IndexedRowMapper;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.YearMonth;
+
+/**
+ * Maps payments rows (SELECT * FROM payments, or p.* in a join).
+ * tenant_id (V3) and period (V5) are optional so older schemas still load.
+ */
+public class PaymentRowMapper extends IndexedRowMapper<Payment> {
+    private int id, tenantId, tenantName, roomNumber, totalAmount, amountPaid, paymentType;
+    private int remainingBalance, month, period, paymentDate, status, notes;
+
+    @Override
+    protected void bind(ColumnIndex columns) throws SQLException {
+        id = columns.require("payment_id");
+        tenantId = columns.find("tenant_id");
+        tenantName = columns.find("tenant_name");
+        roomNumber = columns.find("room_number");
+        totalAmount = columns.find("total_amount");
+        amountPaid = columns.find("amount_paid");
+        paymentType = columns.find("payment_type");
+        remainingBalance = columns.find("remaining_balance");
+        month = columns.find("month");
+        period = columns.find("period");
+        paymentDate = columns.find("payment_date");
+        status = columns.find("status");
+        notes = columns.find("notes");
+    }
+
+    @Override
+    protected Payment mapRow(ResultSet rs) throws SQLException {
+        // The period column wins over parsing the month text, which is the costly part of a row
+        YearMonth yearMonth = BillingPeriod.fromKey(getInt(rs, period, 0));
+        Payment payment = new Payment(
+            rs.getInt(id),
+            getString(rs, tenantName, "N/A"),
+            getString(rs, roomNumber, ""),
+            Money.fromDecimal(getBigDecimal(rs, totalAmount)),
+            Money.fromDecimal(getBigDecimal(rs, amountPaid)),
+            getString(rs, paymentType, "Full Payment"),
+            Money.fromDecimal(getBigDecimal(rs, remainingBalance)),
+            yearMonth == null ? getString(rs, month, "N/A") : null,
+            getLocalDate(rs, paymentDate),
+            getString(rs, status, "Pending"),
+            getString(rs, notes, "")
+        );
+        payment.setTenantId(getInt(rs, tenantId, 0));
+        if (yearMonth != null) {
+            payment.setPeriod(yearMonth);
+        }
+        return payment;
+    }
+}
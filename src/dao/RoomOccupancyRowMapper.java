@@ -0,0 +1,35 @@
+package dao;
+
+import model.Money;
+import model.RoomOccupancy;
+import util.ColumnIndex;
+import util.IndexedRowMapper;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Maps the rooms + tenant_count rows of RoomDAO.getRoomOccupancy
+ */
+public class RoomOccupancyRowMapper extends IndexedRowMapper<RoomOccupancy> {
+    private int roomNumber, capacity, tenantCount, price, status;
+
+    @Override
+    protected void bind(ColumnIndex columns) throws SQLException {
+        roomNumber = columns.require("room_number");
+        capacity = columns.require("capacity");
+        tenantCount = columns.require("tenant_count");
+        price = columns.find("price");
+        status = columns.find("status");
+    }
+
+    @Override
+    protected RoomOccupancy mapRow(ResultSet rs) throws SQLException {
+        return new RoomOccupancy(
+            rs.getString(roomNumber),
+            rs.getInt(capacity),
+            rs.getInt(tenantCount),
+            Money.fromDecimal(getBigDecimal(rs, price)),
+            getString(rs, status, null)
+        );
+    }
+}
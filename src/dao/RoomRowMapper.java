@@ -0,0 +1,39 @@
+package dao;
+
+import model.Money;
+import model.Room;
+import util.ColumnIndex;
+import util.IndexedRowMapper;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Maps rooms rows
+ */
+public class RoomRowMapper extends IndexedRowMapper<Room> {
+    private int id, roomNumber, roomType, capacity, price, status, description;
+
+    @Override
+    protected void bind(ColumnIndex columns) throws SQLException {
+        id = columns.require("id");
+        roomNumber = columns.require("room_number");
+        roomType = columns.find("room_type");
+        capacity = columns.find("capacity");
+        price = columns.find("price");
+        status = columns.find("status");
+        description = columns.find("description");
+    }
+
+    @Override
+    protected Room mapRow(ResultSet rs) throws SQLException {
+        return new Room(
+            rs.getInt(id),
+            rs.getString(roomNumber),
+            getString(rs, roomType, null),
+            getInt(rs, capacity, 0),
+            Money.fromDecimal(getBigDecimal(rs, price)),
+            getString(rs, status, null),
+            getString(rs, description, null)
+        );
+    }
+}
@@ -1,424 +1,477 @@
-package dao;
-
-import model.Tenant;
-import java.sql.*;
-import java.util.ArrayList;
-import java.util.List;
-import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
-
-public class TenantDAO {
-
-    private final String url = "jdbc:mysql://localhost/houserent";
-    private final String user = "root";
-    private final String pass = "";
-
-    // Get database connection
-    private Connection getConnection() throws SQLException {
-        try {
-            Class.forName("com.mysql.cj.jdbc.Driver");
-            return DriverManager.getConnection(url, user, pass);
-        } catch (ClassNotFoundException ex) {
-            throw new SQLException("MySQL Driver not found", ex);
-        }
-    }
-
-    // ✅ NEW: Check if room can accommodate more tenants (Recommendation #2)
-    public boolean canAddTenantToRoom(int roomNumber) {
-        try {
-            int capacity = getRoomCapacity(roomNumber);
-            int currentTenants = countTenantsInRoom(roomNumber);
-            
-            return currentTenants < capacity;
-        } catch (Exception e) {
-            e.printStackTrace();
-            return false;
-        }
-    }
-    
-    // ✅ NEW: Get room capacity from rooms table
-    public int getRoomCapacity(int roomNumber) {
-        String sql = "SELECT capacity FROM rooms WHERE room_number = ?";
-        
-        try (Connection conn = getConnection();
-             PreparedStatement pst = conn.prepareStatement(sql)) {
-            
-            pst.setString(1, String.valueOf(roomNumber));
-            ResultSet rs = pst.executeQuery();
-            
-            if (rs.next()) {
-                return rs.getInt("capacity");
-            }
-        } catch (SQLException e) {
-            e.printStackTrace();
-        }
-        return 0;
-    }
-    
-    // ✅ NEW: Count current tenants in a room
-    public int countTenantsInRoom(int roomNumber) {
-        String sql = "SELECT COUNT(*) as tenant_count FROM records WHERE houseno = ?";
-        
-        try (Connection conn = getConnection();
-             PreparedStatement pst = conn.prepareStatement(sql)) {
-            
-            pst.setInt(1, roomNumber);
-            ResultSet rs = pst.executeQuery();
-            
-            if (rs.next()) {
-                return rs.getInt("tenant_count");
-            }
-        } catch (SQLException e) {
-            e.printStackTrace();
-        }
-        return 0;
-    }
-    
-    // ✅ NEW: Get list of tenant names in a specific room
-    public List<String> getTenantNamesInRoom(int roomNumber) {
-        List<String> names = new ArrayList<>();
-        String sql = "SELECT name FROM records WHERE houseno = ? ORDER BY name";
-        
-        try (Connection conn = getConnection();
-             PreparedStatement pst = conn.prepareStatement(sql)) {
-            
-            pst.setInt(1, roomNumber);
-            ResultSet rs = pst.executeQuery();
-            
-            while (rs.next()) {
-                names.add(rs.getString("name"));
-            }
-        } catch (SQLException e) {
-            e.printStackTrace();
-        }
-        return names;
-    }
-
-    // Get room price by room number
-    public double getRoomPrice(int roomNumber) {
-        String sql = "SELECT price FROM rooms WHERE room_number = ?";
-
-        try (Connection conn = getConnection();
-             PreparedStatement pst = conn.prepareStatement(sql)) {
-
-            pst.setInt(1, roomNumber);
-            ResultSet rs = pst.executeQuery();
-
-            if (rs.next()) {
-                return rs.getDouble("price");
-            }
-        } catch (SQLException ex) {
-            ex.printStackTrace();
-        }
-        return 0.0;
-    }
-
-    // Get all tenants with gender
-    public List<Tenant> getAllTenants() {
-        List<Tenant> tenants = new ArrayList<>();
-        String sql = "SELECT * FROM records ORDER BY houseno";
-
-        try (Connection conn = getConnection();
-             Statement stmt = conn.createStatement();
-             ResultSet rs = stmt.executeQuery(sql)) {
-
-            while (rs.next()) {
-                String gender = "N/A";
-                try {
-                    gender = rs.getString("gender");
-                    if (gender == null) gender = "N/A";
-                } catch (SQLException e) {
-                    // Column doesn't exist in old database, use default
-                }
-                
-                Tenant tenant = new Tenant(
-                    rs.getInt("id"),
-                    rs.getString("name"),
-                    rs.getString("contact"),
-                    rs.getInt("houseno"),
-                    rs.getDouble("payment"),
-                    rs.getString("month"),
-                    gender
-                );
-                tenants.add(tenant);
-            }
-        } catch (SQLException ex) {
-            ex.printStackTrace();
-        }
-        return tenants;
-    }
-
-    // ✅ UPDATED: Add new tenant with capacity checking (Recommendation #2)
-    public boolean addTenant(Tenant tenant) {
-        String checkRoomSql = "SELECT status FROM rooms WHERE room_number = ?";
-        
-        String insertSql = "INSERT INTO records (name, contact, houseno, payment, month, gender) VALUES (?, ?, ?, ?, ?, ?)";
-        String updateRoomSql = "UPDATE rooms SET status = 'Occupied' WHERE room_number = ?";
-
-        try (Connection conn = getConnection()) {
-
-            // 1. Check if room exists
-            try (PreparedStatement pst = conn.prepareStatement(checkRoomSql)) {
-                pst.setInt(1, tenant.getRoomNumber());
-                ResultSet rs = pst.executeQuery();
-
-                if (!rs.next()) {
-                    System.out.println("Room does not exist!");
-                    return false;
-                }
-
-                String status = rs.getString("status");
-                // ✅ CHANGED: Allow adding to occupied rooms if capacity permits
-                if ("Maintenance".equalsIgnoreCase(status) || "Under Repair".equalsIgnoreCase(status)) {
-                    System.out.println("Room is under maintenance or repair!");
-                    return false;
-                }
-            }
-
-            // ✅ NEW: Check room capacity before adding tenant
-            if (!canAddTenantToRoom(tenant.getRoomNumber())) {
-                int capacity = getRoomCapacity(tenant.getRoomNumber());
-                int current = countTenantsInRoom(tenant.getRoomNumber());
-                System.out.println("Room is at full capacity! Current: " + current + " / Max: " + capacity);
-                return false;
-            }
-
-            // 3. Insert tenant with gender
-            try (PreparedStatement pst = conn.prepareStatement(insertSql, Statement.RETURN_GENERATED_KEYS)) {
-                pst.setString(1, tenant.getName());
-                pst.setString(2, tenant.getContact());
-                pst.setInt(3, tenant.getRoomNumber());
-                pst.setDouble(4, tenant.getPayment());
-                pst.setString(5, tenant.getMonth());
-                pst.setString(6, tenant.getGender());
-
-                int rowsAffected = pst.executeUpdate();
-
-                if (rowsAffected > 0) {
-                    // 4. Update room status to Occupied if it has tenants
-                    try (PreparedStatement updatePst = conn.prepareStatement(updateRoomSql)) {
-                        updatePst.setInt(1, tenant.getRoomNumber());
-                        updatePst.executeUpdate();
-                    }
-                    
-                    // 5. Ensure a default payment record exists for the current month
-                    try {
-                        dao.PaymentDAO paymentDAO = new dao.PaymentDAO();
-                        String currentMonth = LocalDate.now().format(DateTimeFormatter.ofPattern("MMMM yyyy"));
-                        paymentDAO.ensurePaymentRecordExistsForTenantAndMonth(
-                            tenant.getName(), 
-                            String.valueOf(tenant.getRoomNumber()), 
-                            tenant.getPayment(), 
-                            currentMonth
-                        );
-                    } catch (Exception ex) {
-                        System.err.println("Warning: failed to create default payment record for new tenant: " + ex.getMessage());
-                    }
-                    
-                    return true;
-                }
-            } catch (SQLException ex) {
-                // If gender column doesn't exist, try without it
-                System.out.println("Trying insert without gender column...");
-                String insertSqlNoGender = "INSERT INTO records (name, contact, houseno, payment, month) VALUES (?, ?, ?, ?, ?)";
-                try (PreparedStatement pst = conn.prepareStatement(insertSqlNoGender, Statement.RETURN_GENERATED_KEYS)) {
-                    pst.setString(1, tenant.getName());
-                    pst.setString(2, tenant.getContact());
-                    pst.setInt(3, tenant.getRoomNumber());
-                    pst.setDouble(4, tenant.getPayment());
-                    pst.setString(5, tenant.getMonth());
-
-                    int rowsAffected = pst.executeUpdate();
-
-                    if (rowsAffected > 0) {
-                        try (PreparedStatement updatePst = conn.prepareStatement(updateRoomSql)) {
-                            updatePst.setInt(1, tenant.getRoomNumber());
-                            updatePst.executeUpdate();
-                        }
-                        
-                        try {
-                            dao.PaymentDAO paymentDAO = new dao.PaymentDAO();
-                            String currentMonth = LocalDate.now().format(DateTimeFormatter.ofPattern("MMMM yyyy"));
-                            paymentDAO.ensurePaymentRecordExistsForTenantAndMonth(
-                                tenant.getName(), 
-                                String.valueOf(tenant.getRoomNumber()), 
-                                tenant.getPayment(), 
-                                currentMonth
-                            );
-                        } catch (Exception ex2) {
-                            System.err.println("Warning: failed to create default payment record: " + ex2.getMessage());
-                        }
-                        return true;
-                    }
-                }
-            }
-
-        } catch (SQLException ex) {
-            ex.printStackTrace();
-        }
-        return false;
-    }
-
-    // Update tenant with gender
-    public boolean updateTenant(Tenant tenant) {
-        String sql = "UPDATE records SET name = ?, contact = ?, houseno = ?, payment = ?, month = ?, gender = ? WHERE id = ?";
-
-        try (Connection conn = getConnection();
-             PreparedStatement pst = conn.prepareStatement(sql)) {
-
-            pst.setString(1, tenant.getName());
-            pst.setString(2, tenant.getContact());
-            pst.setInt(3, tenant.getRoomNumber());
-            pst.setDouble(4, tenant.getPayment());
-            pst.setString(5, tenant.getMonth());
-            pst.setString(6, tenant.getGender());
-            pst.setInt(7, tenant.getTenantId());
-
-            int rowsAffected = pst.executeUpdate();
-            return rowsAffected > 0;
-
-        } catch (SQLException ex) {
-            // If gender column doesn't exist, try without it
-            try (Connection conn = getConnection()) {
-                String sqlNoGender = "UPDATE records SET name = ?, contact = ?, houseno = ?, payment = ?, month = ? WHERE id = ?";
-                PreparedStatement pst = conn.prepareStatement(sqlNoGender);
-                
-                pst.setString(1, tenant.getName());
-                pst.setString(2, tenant.getContact());
-                pst.setInt(3, tenant.getRoomNumber());
-                pst.setDouble(4, tenant.getPayment());
-                pst.setString(5, tenant.getMonth());
-                pst.setInt(6, tenant.getTenantId());
-
-                int rowsAffected = pst.executeUpdate();
-                return rowsAffected > 0;
-            } catch (SQLException ex2) {
-                ex2.printStackTrace();
-                return false;
-            }
-        }
-    }
-
-    // ✅ UPDATED: Delete tenant and update room status if no tenants remain
-    public boolean deleteTenantById(int tenantId) {
-        String deleteSql = "DELETE FROM records WHERE id = ?";
-        String deletePaymentsSql = "DELETE FROM payments WHERE tenant_name = ? AND room_number = ?";
-        String updateRoomSql = "UPDATE rooms SET status = 'Available' WHERE room_number = ?";
-
-        try (Connection conn = getConnection()) {
-            // 1. Get tenant info before deleting
-            int roomNumber = -1;
-            String tenantName = "";
-            String getRoomSql = "SELECT houseno, name FROM records WHERE id = ?";
-            
-            try (PreparedStatement pst = conn.prepareStatement(getRoomSql)) {
-                pst.setInt(1, tenantId);
-                ResultSet rs = pst.executeQuery();
-                if (rs.next()) {
-                    roomNumber = rs.getInt("houseno");
-                    tenantName = rs.getString("name");
-                } else {
-                    return false;
-                }
-            }
-
-            // 2. Delete tenant from records
-            try (PreparedStatement pst = conn.prepareStatement(deleteSql)) {
-                pst.setInt(1, tenantId);
-                int rowsAffected = pst.executeUpdate();
-                
-                if (rowsAffected > 0) {
-                    // 3. Delete all payment records for this tenant
-                    try (PreparedStatement deletePmt = conn.prepareStatement(deletePaymentsSql)) {
-                        deletePmt.setString(1, tenantName);
-                        deletePmt.setString(2, String.valueOf(roomNumber));
-                        deletePmt.executeUpdate();
-                        System.out.println("Deleted payment records for: " + tenantName);
-                    }
-                    
-                    // 4. ✅ NEW: Only set room to Available if NO tenants remain
-                    if (roomNumber > 0) {
-                        int remainingTenants = countTenantsInRoom(roomNumber);
-                        if (remainingTenants == 0) {
-                            try (PreparedStatement updatePst = conn.prepareStatement(updateRoomSql)) {
-                                updatePst.setInt(1, roomNumber);
-                                updatePst.executeUpdate();
-                                System.out.println("Room " + roomNumber + " set to Available (no tenants remaining)");
-                            }
-                        } else {
-                            System.out.println("Room " + roomNumber + " still has " + remainingTenants + " tenant(s), keeping Occupied status");
-                        }
-                    }
-                    return true;
-                }
-            }
-        } catch (SQLException ex) {
-            ex.printStackTrace();
-        }
-        return false;
-    }
-
-    public boolean deleteTenant(int roomNumber) {
-        String deleteSql = "DELETE FROM records WHERE houseno = ?";
-        String updateRoomSql = "UPDATE rooms SET status = 'Available' WHERE room_number = ?";
-
-        try (Connection conn = getConnection()) {
-            try (PreparedStatement pst = conn.prepareStatement(deleteSql)) {
-                pst.setInt(1, roomNumber);
-                int rowsAffected = pst.executeUpdate();
-
-                if (rowsAffected > 0) {
-                    try (PreparedStatement updatePst = conn.prepareStatement(updateRoomSql)) {
-                        updatePst.setInt(1, roomNumber);
-                        updatePst.executeUpdate();
-                    }
-                    return true;
-                }
-            }
-        } catch (SQLException ex) {
-            ex.printStackTrace();
-        }
-        return false;
-    }
-
-    // Search tenants with gender
-    public List<Tenant> searchTenants(String searchValue) {
-        List<Tenant> tenants = new ArrayList<>();
-        String sql = "SELECT * FROM records WHERE name LIKE ? OR contact LIKE ? OR houseno LIKE ? ORDER BY houseno";
-
-        try (Connection conn = getConnection();
-             PreparedStatement pst = conn.prepareStatement(sql)) {
-
-            String searchPattern = "%" + searchValue + "%";
-            pst.setString(1, searchPattern);
-            pst.setString(2, searchPattern);
-            pst.setString(3, searchPattern);
-
-            ResultSet rs = pst.executeQuery();
-
-            while (rs.next()) {
-                String gender = "N/A";
-                try {
-                    gender = rs.getString("gender");
-                    if (gender == null) gender = "N/A";
-                } catch (SQLException e) {
-                    // Column doesn't exist
-                }
-                
-                Tenant tenant = new Tenant(
-                    rs.getInt("id"),
-                    rs.getString("name"),
-                    rs.getString("contact"),
-                    rs.getInt("houseno"),
-                    rs.getDouble("payment"),
-                    rs.getString("month"),
-                    gender
-                );
-                tenants.add(tenant);
-            }
-        } catch (SQLException ex) {
-            ex.printStackTrace();
-        }
-        return tenants;
-    }
+package dao;
+
+import model.BillingPeriod;
+import model.DataChange;
+import model.Money;
+import model.OnboardingResult;
+import model.Room;
+import model.Tenant;
+import util.DatabaseConnection;
+import util.ResultStream;
+import util.SearchQuery;
+import java.sql.*;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.time.YearMonth;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+public class TenantDAO {
+
+    private final RoomDAO roomDAO = new RoomDAO();
+
+    // Get database connection (borrowed from the shared pool)
+    private Connection getConnection() throws SQLException {
+        return DatabaseConnection.getConnection();
+    }
+
+    // ✅ NEW: Check if room can accommodate more tenants (Recommendation #2)
+    public boolean canAddTenantToRoom(int roomNumber) {
+        try {
+            int capacity = getRoomCapacity(roomNumber);
+            int currentTenants = countTenantsInRoom(roomNumber);
+            
+            return currentTenants < capacity;
+        } catch (Exception e) {
+            e.printStackTrace();
+            return false;
+        }
+    }
+    
+    // ✅ NEW: Get room capacity from rooms table (served from DataCache)
+    public int getRoomCapacity(int roomNumber) {
+        Room room = roomDAO.getRoomByNumber(roomNumber);
+        return room != null ? room.getCapacity() : 0;
+    }
+    
+    // ✅ NEW: Count current tenants in a room
+    public int countTenantsInRoom(int roomNumber) {
+        String sql = "SELECT COUNT(*) as tenant_count FROM records WHERE houseno = ?";
+        
+        try (Connection conn = getConnection();
+             PreparedStatement pst = conn.prepareStatement(sql)) {
+            
+            pst.setInt(1, roomNumber);
+            ResultSet rs = pst.executeQuery();
+            
+            if (rs.next()) {
+                return rs.getInt("tenant_count");
+            }
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+        return 0;
+    }
+    
+    // ✅ NEW: Get list of tenant names in a specific room
+    public List<String> getTenantNamesInRoom(int roomNumber) {
+        List<String> names = new ArrayList<>();
+        String sql = "SELECT name FROM records WHERE houseno = ? ORDER BY name";
+        
+        try (Connection conn = getConnection();
+             PreparedStatement pst = conn.prepareStatement(sql)) {
+            
+            pst.setInt(1, roomNumber);
+            ResultSet rs = pst.executeQuery();
+            
+            while (rs.next()) {
+                names.add(rs.getString("name"));
+            }
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+        return names;
+    }
+
+    // Get room price (centavos) by room number (served from DataCache)
+    public long getRoomPrice(int roomNumber) {
+        Room room = roomDAO.getRoomByNumber(roomNumber);
+        return room != null ? room.getPrice() : 0L;
+    }
+
+    // Get all tenants with gender
+    public List<Tenant> getAllTenants() {
+        List<Tenant> tenants = DataCache.TENANTS.get(DataCache.ALL, key -> queryAllTenants());
+        return tenants != null ? new ArrayList<>(tenants) : new ArrayList<>();
+    }
+
+    // null on error so a failed read isn't cached
+    private List<Tenant> queryAllTenants() {
+        List<Tenant> tenants = new ArrayList<>();
+        String sql = "SELECT * FROM records ORDER BY houseno";
+
+        try (Connection conn = getConnection();
+             Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery(sql)) {
+
+            TenantRowMapper mapper = new TenantRowMapper();
+
+            while (rs.next()) {
+                tenants.add(mapper.map(rs));
+            }
+        } catch (SQLException ex) {
+            ex.printStackTrace();
+            return null;
+        }
+        return Collections.unmodifiableList(tenants);
+    }
+
+    /**
+     * Every tenant ordered by room, as a lazy Stream read through a
+     * server-side cursor (DatabaseConfig db.fetchSize). Close the stream
+     * (try-with-resources) to give the connection back.
+     */
+    public Stream<Tenant> streamTenants() throws SQLException {
+        return streamTenants(DatabaseConnection.getFetchSize());
+    }
+
+    public Stream<Tenant> streamTenants(int fetchSize) throws SQLException {
+        String sql = "SELECT * FROM records ORDER BY houseno";
+
+        Connection conn = getConnection();
+        PreparedStatement pst = null;
+        try {
+            pst = ResultStream.prepare(conn, sql, fetchSize);
+        } catch (SQLException ex) {
+            ResultStream.closeQuietly(pst, conn);
+            throw ex;
+        }
+        return ResultStream.open(conn, pst, new TenantRowMapper());
+    }
+
+    /**
+     * Hand every tenant to action, one row at a time; false if reading failed
+     */
+    public boolean forEachTenant(Consumer<Tenant> action) {
+        try (Stream<Tenant> tenants = streamTenants()) {
+            tenants.forEach(action);
+            return true;
+        } catch (SQLException ex) {
+            ex.printStackTrace();
+        } catch (ResultStream.ReadException ex) {
+            ex.getSQLException().printStackTrace();
+        }
+        return false;
+    }
+
+    // ✅ UPDATED: Add new tenant with capacity checking (Recommendation #2)
+    public boolean addTenant(Tenant tenant) {
+        return onboardTenant(tenant, BillingPeriod.current()).isAdded();
+    }
+
+    /**
+     * Onboard a tenant atomically on one connection, in one transaction:
+     * lock the room row, check status and capacity, insert the tenant, mark
+     * the room Occupied and create the first bill for billingPeriod.
+     *
+     * The room row is locked with SELECT ... FOR UPDATE, so two clerks adding
+     * to the same room are serialized and the second one sees the first
+     * one's tenant in its count. READ COMMITTED makes that count read the
+     * latest committed rows rather than a snapshot taken before the lock wait.
+     *
+     * If tenant.getPayment() is 0 the room's price is used as the monthly rate.
+     */
+    public OnboardingResult onboardTenant(Tenant tenant, YearMonth billingPeriod) {
+        String lockRoomSql = "SELECT status, capacity, price FROM rooms WHERE room_number = ? FOR UPDATE";
+        String countSql = "SELECT COUNT(*) FROM records WHERE houseno = ?";
+        String insertSql = "INSERT INTO records (name, contact, houseno, payment, month, period, gender) VALUES (?, ?, ?, ?, ?, ?, ?)";
+        String updateRoomSql = "UPDATE rooms SET status = 'Occupied' WHERE room_number = ?";
+        String firstBillSql = "INSERT INTO payments (tenant_id, tenant_name, room_number, total_amount, amount_paid, payment_type, remaining_balance, month, period, payment_date, status, notes) " +
+                              "VALUES (?, ?, ?, ?, 0, 'Full Payment', ?, ?, ?, NULL, 'Pending', '')";
+
+        int roomNumber = tenant.getRoomNumber();
+        try (Connection conn = getConnection()) {
+            conn.setTransactionIsolation(Connection.TRANSACTION_READ_COMMITTED);
+            conn.setAutoCommit(false);
+            try {
+                // 1. Lock the room and check it can take a tenant
+                String status;
+                int capacity;
+                long price;
+                try (PreparedStatement pst = conn.prepareStatement(lockRoomSql)) {
+                    pst.setString(1, String.valueOf(roomNumber));
+                    try (ResultSet rs = pst.executeQuery()) {
+                        if (!rs.next()) {
+                            System.out.println("Room does not exist!");
+                            conn.rollback();
+                            return new OnboardingResult(OnboardingResult.Status.ROOM_NOT_FOUND, 0, 0, 0L);
+                        }
+                        status = rs.getString("status");
+                        capacity = rs.getInt("capacity");
+                        price = Money.fromDecimal(rs.getBigDecimal("price"));
+                    }
+                }
+
+                int current = 0;
+                try (PreparedStatement pst = conn.prepareStatement(countSql)) {
+                    pst.setInt(1, roomNumber);
+                    try (ResultSet rs = pst.executeQuery()) {
+                        if (rs.next()) {
+                            current = rs.getInt(1);
+                        }
+                    }
+                }
+
+                // ✅ CHANGED: Allow adding to occupied rooms if capacity permits
+                if ("Maintenance".equalsIgnoreCase(status) || "Under Repair".equalsIgnoreCase(status)) {
+                    System.out.println("Room is under maintenance or repair!");
+                    conn.rollback();
+                    return new OnboardingResult(OnboardingResult.Status.ROOM_UNAVAILABLE, current, capacity, price);
+                }
+                if (current >= capacity) {
+                    System.out.println("Room is at full capacity! Current: " + current + " / Max: " + capacity);
+                    conn.rollback();
+                    return new OnboardingResult(OnboardingResult.Status.ROOM_FULL, current, capacity, price);
+                }
+
+                long payment = tenant.getPayment() > 0 ? tenant.getPayment() : price;
+                if (payment == 0) {
+                    conn.rollback();
+                    return new OnboardingResult(OnboardingResult.Status.NO_PRICE, current, capacity, price);
+                }
+                tenant.setPayment(payment);
+
+                // 2. Insert tenant (V9 adds gender to older databases; no retry-without-gender
+                //    fallback here: after a deadlock InnoDB has already dropped the room lock)
+                int tenantId;
+                try (PreparedStatement pst = conn.prepareStatement(insertSql, Statement.RETURN_GENERATED_KEYS)) {
+                    pst.setString(1, tenant.getName());
+                    pst.setString(2, tenant.getContact());
+                    pst.setInt(3, roomNumber);
+                    pst.setBigDecimal(4, Money.toDecimal(payment));
+                    pst.setString(5, tenant.getMonth());
+                    setPeriod(pst, 6, tenant.getPeriod());
+                    pst.setString(7, tenant.getGender());
+                    pst.executeUpdate();
+                    tenantId = generatedId(pst);
+                }
+                if (tenantId <= 0) {
+                    conn.rollback();
+                    return OnboardingResult.failed();
+                }
+                tenant.setTenantId(tenantId);
+
+                // 3. Update room status to Occupied (skipped when it already is)
+                if (!"Occupied".equalsIgnoreCase(status)) {
+                    try (PreparedStatement pst = conn.prepareStatement(updateRoomSql)) {
+                        pst.setString(1, String.valueOf(roomNumber));
+                        pst.executeUpdate();
+                    }
+                }
+
+                // 4. First bill for the billing period, linked to the new tenant id
+                try (PreparedStatement pst = conn.prepareStatement(firstBillSql)) {
+                    pst.setInt(1, tenantId);
+                    pst.setString(2, tenant.getName());
+                    pst.setString(3, String.valueOf(roomNumber));
+                    pst.setBigDecimal(4, Money.toDecimal(payment));
+                    pst.setBigDecimal(5, Money.toDecimal(payment));
+                    pst.setString(6, BillingPeriod.format(billingPeriod));
+                    pst.setInt(7, BillingPeriod.toKey(billingPeriod));
+                    pst.executeUpdate();
+                }
+
+                conn.commit();
+                DataChangeBus.publish(DataChange.created(tenant));
+                if (!"Occupied".equalsIgnoreCase(status)) {
+                    DataChangeBus.publish(DataChange.invalidated(DataChange.Entity.ROOM));
+                }
+                DataChangeBus.publish(DataChange.invalidated(DataChange.Entity.PAYMENT));   // the first bill
+                return new OnboardingResult(OnboardingResult.Status.ADDED, current + 1, capacity, payment);
+            } catch (SQLException ex) {
+                conn.rollback();
+                throw ex;
+            }
+        } catch (SQLException ex) {
+            ex.printStackTrace();
+        }
+        return OnboardingResult.failed();
+    }
+
+    // Id generated by an INSERT prepared with RETURN_GENERATED_KEYS (0 if none)
+    private int generatedId(PreparedStatement pst) throws SQLException {
+        try (ResultSet keys = pst.getGeneratedKeys()) {
+            return keys.next() ? keys.getInt(1) : 0;
+        }
+    }
+
+    // records.period as yyyymm, NULL when the month text isn't a month
+    private void setPeriod(PreparedStatement pst, int index, YearMonth period) throws SQLException {
+        if (period != null) pst.setInt(index, BillingPeriod.toKey(period));
+        else pst.setNull(index, Types.INTEGER);
+    }
+
+    // Update tenant with gender
+    public boolean updateTenant(Tenant tenant) {
+        String sql = "UPDATE records SET name = ?, contact = ?, houseno = ?, payment = ?, month = ?, period = ?, gender = ? WHERE id = ?";
+
+        try (Connection conn = getConnection();
+             PreparedStatement pst = conn.prepareStatement(sql)) {
+
+            pst.setString(1, tenant.getName());
+            pst.setString(2, tenant.getContact());
+            pst.setInt(3, tenant.getRoomNumber());
+            pst.setBigDecimal(4, Money.toDecimal(tenant.getPayment()));
+            pst.setString(5, tenant.getMonth());
+            setPeriod(pst, 6, tenant.getPeriod());
+            pst.setString(7, tenant.getGender());
+            pst.setInt(8, tenant.getTenantId());
+
+            int rowsAffected = pst.executeUpdate();
+            if (rowsAffected > 0) {
+                DataChangeBus.publish(DataChange.updated(tenant));
+            }
+            return rowsAffected > 0;
+
+        } catch (SQLException ex) {
+            ex.printStackTrace();
+            return false;
+        }
+    }
+
+    // ✅ UPDATED: Delete tenant and update room status if no tenants remain
+    public boolean deleteTenantById(int tenantId) {
+        String deleteSql = "DELETE FROM records WHERE id = ?";
+        String deletePaymentsSql = "DELETE FROM payments WHERE tenant_id = ?";
+        String updateRoomSql = "UPDATE rooms SET status = 'Available' WHERE room_number = ?";
+
+        try (Connection conn = getConnection()) {
+            // 1. Get tenant info before deleting
+            int roomNumber = -1;
+            String tenantName = "";
+            String getRoomSql = "SELECT houseno, name FROM records WHERE id = ?";
+            
+            try (PreparedStatement pst = conn.prepareStatement(getRoomSql)) {
+                pst.setInt(1, tenantId);
+                ResultSet rs = pst.executeQuery();
+                if (rs.next()) {
+                    roomNumber = rs.getInt("houseno");
+                    tenantName = rs.getString("name");
+                } else {
+                    return false;
+                }
+            }
+
+            // 2. Delete all payment records for this tenant (the foreign key
+            //    cascades too; this keeps it working on a schema without it)
+            try (PreparedStatement deletePmt = conn.prepareStatement(deletePaymentsSql)) {
+                deletePmt.setInt(1, tenantId);
+                deletePmt.executeUpdate();
+                System.out.println("Deleted payment records for: " + tenantName);
+            }
+
+            // 3. Delete tenant from records
+            try (PreparedStatement pst = conn.prepareStatement(deleteSql)) {
+                pst.setInt(1, tenantId);
+                int rowsAffected = pst.executeUpdate();
+                
+                if (rowsAffected > 0) {
+                    DataChangeBus.publish(DataChange.deleted(DataChange.Entity.TENANT, tenantId));
+                    DataChangeBus.publish(DataChange.invalidated(DataChange.Entity.PAYMENT));
+                    // 4. ✅ NEW: Only set room to Available if NO tenants remain
+                    if (roomNumber > 0) {
+                        int remainingTenants = countTenantsInRoom(roomNumber);
+                        if (remainingTenants == 0) {
+                            try (PreparedStatement updatePst = conn.prepareStatement(updateRoomSql)) {
+                                updatePst.setInt(1, roomNumber);
+                                updatePst.executeUpdate();
+                                System.out.println("Room " + roomNumber + " set to Available (no tenants remaining)");
+                                DataChangeBus.publish(DataChange.invalidated(DataChange.Entity.ROOM));
+                            }
+                        } else {
+                            System.out.println("Room " + roomNumber + " still has " + remainingTenants + " tenant(s), keeping Occupied status");
+                        }
+                    }
+                    return true;
+                }
+            }
+        } catch (SQLException ex) {
+            ex.printStackTrace();
+        }
+        return false;
+    }
+
+    public boolean deleteTenant(int roomNumber) {
+        String deleteSql = "DELETE FROM records WHERE houseno = ?";
+        String updateRoomSql = "UPDATE rooms SET status = 'Available' WHERE room_number = ?";
+
+        try (Connection conn = getConnection()) {
+            try (PreparedStatement pst = conn.prepareStatement(deleteSql)) {
+                pst.setInt(1, roomNumber);
+                int rowsAffected = pst.executeUpdate();
+
+                if (rowsAffected > 0) {
+                    try (PreparedStatement updatePst = conn.prepareStatement(updateRoomSql)) {
+                        updatePst.setInt(1, roomNumber);
+                        updatePst.executeUpdate();
+                    }
+                    DataChangeBus.publish(DataChange.invalidated(DataChange.Entity.TENANT));
+                    DataChangeBus.publish(DataChange.invalidated(DataChange.Entity.ROOM));
+                    return true;
+                }
+            }
+        } catch (SQLException ex) {
+            ex.printStackTrace();
+        }
+        return false;
+    }
+
+    // Search tenants (name, contact or room number), best matches first
+    public List<Tenant> searchTenants(String searchValue) {
+        return searchTenants(searchValue, SearchQuery.DEFAULT_LIMIT);
+    }
+
+    /**
+     * Relevance-ranked tenant search, capped at limit rows. Words are matched
+     * on the ngram FULLTEXT index over name and contact; a numeric input also
+     * matches the room number exactly (ranked first, through the houseno index).
+     * Input shorter than the ngram size falls back to a name/contact prefix match.
+     */
+    public List<Tenant> searchTenants(String searchValue, int limit) {
+        List<Tenant> tenants = new ArrayList<>();
+        SearchQuery query = SearchQuery.parse(searchValue);
+        if (query.isEmpty()) {
+            return tenants;
+        }
+
+        List<String> branches = new ArrayList<>();
+        List<Object> params = new ArrayList<>();
+        if (query.hasFullText()) {
+            branches.add("SELECT id, MATCH(name, contact) AGAINST(? IN BOOLEAN MODE) AS score FROM records " +
+                         "WHERE MATCH(name, contact) AGAINST(? IN BOOLEAN MODE)");
+            params.add(query.getBooleanQuery());
+            params.add(query.getBooleanQuery());
+        } else {
+            branches.add("SELECT id, 1 AS score FROM records WHERE name LIKE ? OR contact LIKE ?");
+            params.add(query.getPrefixPattern());
+            params.add(query.getPrefixPattern());
+        }
+        if (query.getRoomNumber() != null) {
+            branches.add("SELECT id, 1000 AS score FROM records WHERE houseno = ?");
+            params.add(query.getRoomNumber());
+        }
+        params.add(limit);
+
+        String sql = "SELECT r.*, MAX(s.score) AS score FROM (" + String.join(" UNION ALL ", branches) + ") s " +
+                     "INNER JOIN records r ON r.id = s.id " +
+                     "GROUP BY r.id ORDER BY score DESC, r.houseno, r.id LIMIT ?";
+
+        try (Connection conn = getConnection();
+             PreparedStatement pst = conn.prepareStatement(sql)) {
+
+            for (int i = 0; i < params.size(); i++) {
+                pst.setObject(i + 1, params.get(i));
+            }
+            try (ResultSet rs = pst.executeQuery()) {
+                TenantRowMapper mapper = new TenantRowMapper();
+                while (rs.next()) {
+                    tenants.add(mapper.map(rs));
+                }
+            }
+        } catch (SQLException ex) {
+            ex.printStackTrace();
+        }
+        return tenants;
+    }
 }
\ No newline at end of file
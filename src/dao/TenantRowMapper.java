@@ -0,0 +1,49 @@
+package dao;
+
+import model.BillingPeriod;
+import model.Money;
+import model.Tenant;
+import util.ColumnIndex;
+import util.IndexedRowMapper;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.YearMonth;
+
+/**
+ * Maps records rows (SELECT * FROM records). gender and period (V5) are
+ * optional so older schemas still load.
+ */
+public class TenantRowMapper extends IndexedRowMapper<Tenant> {
+    private int id, name, contact, houseno, payment, month, period, gender;
+
+    @Override
+    protected void bind(ColumnIndex columns) throws SQLException {
+        id = columns.require("id");
+        name = columns.find("name");
+        contact = columns.find("contact");
+        houseno = columns.find("houseno");
+        payment = columns.find("payment");
+        month = columns.find("month");
+        period = columns.find("period");
+        gender = columns.find("gender");
+    }
+
+    @Override
+    protected Tenant mapRow(ResultSet rs) throws SQLException {
+        Tenant tenant = new Tenant(
+            rs.getInt(id),
+            getString(rs, name, null),
+            getString(rs, contact, null),
+            getInt(rs, houseno, 0),
+            Money.fromDecimal(getBigDecimal(rs, payment)),
+            getString(rs, month, null),
+            getString(rs, gender, "N/A")
+        );
+        // The period column wins over parsing the month text
+        YearMonth yearMonth = BillingPeriod.fromKey(getInt(rs, period, 0));
+        if (yearMonth != null) {
+            tenant.setPeriod(yearMonth);
+        }
+        return tenant;
+    }
+}
@@ -0,0 +1,34 @@
+package dao;
+
+import model.User;
+import util.ColumnIndex;
+import util.IndexedRowMapper;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Maps users rows
+ */
+public class UserRowMapper extends IndexedRowMapper<User> {
+    private int userId, username, password, fullName, role;
+
+    @Override
+    protected void bind(ColumnIndex columns) throws SQLException {
+        userId = columns.require("user_id");
+        username = columns.require("username");
+        password = columns.find("password");
+        fullName = columns.find("full_name");
+        role = columns.find("role");
+    }
+
+    @Override
+    protected User mapRow(ResultSet rs) throws SQLException {
+        return new User(
+            rs.getInt(userId),
+            rs.getString(username),
+            getString(rs, password, null),
+            getString(rs, fullName, null),
+            getString(rs, role, null)
+        );
+    }
+}
@@ -0,0 +1,13 @@
+-- Take month out of the payments full-text index. Its ngrams ("20", "25",
+-- "ja", "an", ...) are in nearly every row, so searching "2025" or "Jan"
+-- matched almost the whole table; month names and years typed into the
+-- search box now filter on period (idx_payments_period) instead.
+-- Stopwords stay off for the rebuilt index, as in V8.
+
+SET SESSION innodb_ft_enable_stopword = OFF;
+
+ALTER TABLE payments DROP INDEX ft_payments_search;
+ALTER TABLE payments ADD FULLTEXT INDEX ft_payments_search (tenant_name, room_number) WITH PARSER ngram;
+
+-- The migration connection goes back to the pool
+SET SESSION innodb_ft_enable_stopword = DEFAULT;
@@ -0,0 +1,53 @@
+-- Baseline: the tables the DAOs expect. IF NOT EXISTS keeps existing
+-- databases (created by hand before migrations existed) untouched.
+
+CREATE TABLE IF NOT EXISTS users (
+    user_id INT AUTO_INCREMENT PRIMARY KEY,
+    username VARCHAR(50) NOT NULL UNIQUE,
+    password VARCHAR(255) NOT NULL,
+    full_name VARCHAR(100),
+    role VARCHAR(20) DEFAULT 'admin'
+);
+
+CREATE TABLE IF NOT EXISTS rooms (
+    id INT AUTO_INCREMENT PRIMARY KEY,
+    room_number VARCHAR(10) NOT NULL,
+    room_type VARCHAR(50),
+    capacity INT NOT NULL DEFAULT 1,
+    price DECIMAL(10,2) NOT NULL DEFAULT 0.00,
+    status VARCHAR(20) NOT NULL DEFAULT 'Available',
+    description VARCHAR(255)
+);
+
+CREATE TABLE IF NOT EXISTS records (
+    id INT AUTO_INCREMENT PRIMARY KEY,
+    name VARCHAR(100) NOT NULL,
+    contact VARCHAR(50),
+    houseno INT NOT NULL,
+    payment DECIMAL(10,2) NOT NULL DEFAULT 0.00,
+    month VARCHAR(30),
+    gender VARCHAR(10) DEFAULT 'N/A'
+);
+
+CREATE TABLE IF NOT EXISTS payments (
+    payment_id INT AUTO_INCREMENT PRIMARY KEY,
+    tenant_name VARCHAR(100),
+    room_number VARCHAR(10),
+    total_amount DECIMAL(10,2) NOT NULL DEFAULT 0.00,
+    amount_paid DECIMAL(10,2) NOT NULL DEFAULT 0.00,
+    payment_type VARCHAR(30) DEFAULT 'Full Payment',
+    remaining_balance DECIMAL(10,2) NOT NULL DEFAULT 0.00,
+    month VARCHAR(30),
+    payment_date DATE NULL,
+    status VARCHAR(20) DEFAULT 'Pending',
+    notes VARCHAR(255)
+);
+
+CREATE TABLE IF NOT EXISTS billing_settings (
+    setting_name VARCHAR(50) PRIMARY KEY,
+    setting_value VARCHAR(100) NOT NULL
+);
+
+-- BillingScheduler.updateSetting only UPDATEs, so the rows must exist
+INSERT IGNORE INTO billing_settings (setting_name, setting_value) VALUES ('billing_day', '1');
+INSERT IGNORE INTO billing_settings (setting_name, setting_value) VALUES ('billing_enabled', 'true');
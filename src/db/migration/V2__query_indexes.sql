@@ -0,0 +1,17 @@
+-- Indexes for the lookups that were full table scans.
+
+-- getPaymentsForMonth / generateMonthlyBills: month plus tenant name OR
+-- room number (MySQL merges the two index ranges for the OR)
+CREATE INDEX idx_payments_month_tenant ON payments (month, tenant_name);
+CREATE INDEX idx_payments_month_room ON payments (month, room_number);
+
+-- getPaymentsByTenant / getPaymentsByRoom: filter then ORDER BY payment_date
+CREATE INDEX idx_payments_tenant_date ON payments (tenant_name, payment_date);
+CREATE INDEX idx_payments_room_date ON payments (room_number, payment_date);
+
+-- Keyset paging of the payment history (payment_date DESC, payment_id DESC)
+CREATE INDEX idx_payments_date_id ON payments (payment_date, payment_id);
+
+-- countTenantsInRoom and the rooms/records joins
+CREATE INDEX idx_records_houseno ON records (houseno);
+CREATE INDEX idx_rooms_room_number ON rooms (room_number);
@@ -0,0 +1,27 @@
+-- Link payments to the tenant (records.id) they bill, instead of matching
+-- on tenant_name OR room_number, which mixes up roommates.
+
+ALTER TABLE payments ADD COLUMN tenant_id INT NULL AFTER payment_id;
+
+-- Backfill 1: same name in the same room (lowest id if a room has two
+-- tenants with the same name)
+UPDATE payments p
+JOIN (SELECT name, houseno, MIN(id) AS id FROM records GROUP BY name, houseno) r
+  ON r.name = p.tenant_name AND CAST(r.houseno AS CHAR) = p.room_number
+SET p.tenant_id = r.id
+WHERE p.tenant_id IS NULL;
+
+-- Backfill 2: tenant moved rooms since the payment; only when the name is unique
+UPDATE payments p
+JOIN (SELECT name, MIN(id) AS id FROM records GROUP BY name HAVING COUNT(*) = 1) r
+  ON r.name = p.tenant_name
+SET p.tenant_id = r.id
+WHERE p.tenant_id IS NULL;
+
+-- Rows still NULL belong to tenants deleted before this migration; they stay as history.
+
+-- Per-tenant lookups (tenant + month) become one index seek
+CREATE INDEX idx_payments_tenant_month ON payments (tenant_id, month);
+
+ALTER TABLE payments ADD CONSTRAINT fk_payments_tenant
+  FOREIGN KEY (tenant_id) REFERENCES records (id) ON DELETE CASCADE;
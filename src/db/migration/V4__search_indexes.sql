@@ -0,0 +1,9 @@
+-- Full-text search for tenants and payments. The ngram parser indexes every
+-- 2-character sequence, so partial names, contact numbers and room numbers
+-- match mid-word (what LIKE '%x%' did, without the table scan).
+
+ALTER TABLE records ADD FULLTEXT INDEX ft_records_search (name, contact) WITH PARSER ngram;
+ALTER TABLE payments ADD FULLTEXT INDEX ft_payments_search (tenant_name, room_number, month) WITH PARSER ngram;
+
+-- Prefix fallback for one-character input (shorter than the ngram size)
+CREATE INDEX idx_records_name ON records (name);
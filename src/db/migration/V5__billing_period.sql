@@ -0,0 +1,65 @@
+-- Billing period as a sortable yyyymm integer (202512 = December 2025)
+-- instead of the "December 2025" text in month, so period ranges and
+-- chronological order are index range scans. month stays as display text.
+
+ALTER TABLE payments ADD COLUMN period INT NULL AFTER month;
+ALTER TABLE records ADD COLUMN period INT NULL AFTER month;
+
+-- "December 2025" (generated bills)
+UPDATE payments
+SET period = CAST(SUBSTRING_INDEX(month, ' ', -1) AS UNSIGNED) * 100
+    + FIELD(SUBSTRING_INDEX(month, ' ', 1), 'January', 'February', 'March', 'April', 'May', 'June',
+            'July', 'August', 'September', 'October', 'November', 'December')
+WHERE month REGEXP '^[A-Za-z]+ [0-9]{4}$'
+  AND FIELD(SUBSTRING_INDEX(month, ' ', 1), 'January', 'February', 'March', 'April', 'May', 'June',
+            'July', 'August', 'September', 'October', 'November', 'December') > 0;
+
+-- "December" (Add Payment dialog): the year it was paid, or for unpaid
+-- rows the latest such month not after today
+UPDATE payments
+SET period = COALESCE(YEAR(payment_date),
+                      YEAR(CURDATE()) - (FIELD(month, 'January', 'February', 'March', 'April', 'May', 'June',
+                                               'July', 'August', 'September', 'October', 'November', 'December') > MONTH(CURDATE()))) * 100
+    + FIELD(month, 'January', 'February', 'March', 'April', 'May', 'June',
+            'July', 'August', 'September', 'October', 'November', 'December')
+WHERE period IS NULL
+  AND FIELD(month, 'January', 'February', 'March', 'April', 'May', 'June',
+            'July', 'August', 'September', 'October', 'November', 'December') > 0;
+
+-- Same display text for every converted row
+UPDATE payments
+SET month = CONCAT(ELT(period % 100, 'January', 'February', 'March', 'April', 'May', 'June',
+                       'July', 'August', 'September', 'October', 'November', 'December'), ' ', period DIV 100)
+WHERE period IS NOT NULL;
+
+-- Tenants' move-in month: "December 2025", or "December" as its latest
+-- occurrence not after today. The month text itself is left as entered.
+UPDATE records
+SET period = CAST(SUBSTRING_INDEX(month, ' ', -1) AS UNSIGNED) * 100
+    + FIELD(SUBSTRING_INDEX(month, ' ', 1), 'January', 'February', 'March', 'April', 'May', 'June',
+            'July', 'August', 'September', 'October', 'November', 'December')
+WHERE month REGEXP '^[A-Za-z]+ [0-9]{4}$'
+  AND FIELD(SUBSTRING_INDEX(month, ' ', 1), 'January', 'February', 'March', 'April', 'May', 'June',
+            'July', 'August', 'September', 'October', 'November', 'December') > 0;
+
+UPDATE records
+SET period = (YEAR(CURDATE()) - (FIELD(month, 'January', 'February', 'March', 'April', 'May', 'June',
+                                       'July', 'August', 'September', 'October', 'November', 'December') > MONTH(CURDATE()))) * 100
+    + FIELD(month, 'January', 'February', 'March', 'April', 'May', 'June',
+            'July', 'August', 'September', 'October', 'November', 'December')
+WHERE period IS NULL
+  AND FIELD(month, 'January', 'February', 'March', 'April', 'May', 'June',
+            'July', 'August', 'September', 'October', 'November', 'December') > 0;
+
+-- Rows whose month text is not a month keep a NULL period.
+
+-- Period ranges (Payment Records filter) and per-tenant period lookups
+-- (billing, default rows). The tenant index also backs fk_payments_tenant,
+-- so it is created before the month-based ones are dropped.
+CREATE INDEX idx_payments_period ON payments (period);
+CREATE INDEX idx_payments_tenant_period ON payments (tenant_id, period);
+CREATE INDEX idx_records_period ON records (period);
+
+DROP INDEX idx_payments_tenant_month ON payments;
+DROP INDEX idx_payments_month_tenant ON payments;
+DROP INDEX idx_payments_month_room ON payments;
@@ -0,0 +1,13 @@
+-- Last billing period whose bills have been generated (yyyymm, see V5).
+-- BillingScheduler generates every later period that is due at startup
+-- and advances this row in the same transaction as the bills.
+--
+-- Starts at the newest auto-generated period, but never before last
+-- month: upgrading must not bill tenants for months nobody billed before.
+
+INSERT IGNORE INTO billing_settings (setting_name, setting_value)
+SELECT 'last_billed_period',
+       CAST(GREATEST(COALESCE(MAX(period), 0),
+                     CAST(DATE_FORMAT(CURDATE() - INTERVAL 1 MONTH, '%Y%m') AS UNSIGNED)) AS CHAR)
+FROM payments
+WHERE notes = 'Auto-generated';
@@ -0,0 +1,6 @@
+-- Lets BillingSettingsStore tell whether its snapshot is current with one
+-- tiny query (row count + newest updated_at) instead of reloading every
+-- setting. ON UPDATE only fires when a value actually changes.
+
+ALTER TABLE billing_settings
+    ADD COLUMN updated_at TIMESTAMP(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6) ON UPDATE CURRENT_TIMESTAMP(6);
@@ -0,0 +1,15 @@
+-- Rebuild the V4 full-text indexes without stopwords. The ngram parser
+-- drops every token that contains a stopword, and MySQL's default list has
+-- "a" and "i", so bigrams like "ma", "ar", "ri" and "ia" were never indexed
+-- and "Maria" could not be found. The stopword setting is read when an
+-- index is created, so it is switched off for this session only.
+
+SET SESSION innodb_ft_enable_stopword = OFF;
+
+ALTER TABLE records DROP INDEX ft_records_search;
+ALTER TABLE records ADD FULLTEXT INDEX ft_records_search (name, contact) WITH PARSER ngram;
+ALTER TABLE payments DROP INDEX ft_payments_search;
+ALTER TABLE payments ADD FULLTEXT INDEX ft_payments_search (tenant_name, room_number, month) WITH PARSER ngram;
+
+-- The migration connection goes back to the pool
+SET SESSION innodb_ft_enable_stopword = DEFAULT;
@@ -0,0 +1,13 @@
+-- records.gender for databases created by hand before migrations existed:
+-- V1's CREATE TABLE IF NOT EXISTS left their records table as it was, and
+-- TenantDAO now always writes gender. MySQL has no ADD COLUMN IF NOT
+-- EXISTS, so the ALTER is built only when the column is missing.
+
+SET @add_gender = (SELECT IF(COUNT(*) = 0,
+                             'ALTER TABLE records ADD COLUMN gender VARCHAR(10) DEFAULT ''N/A''',
+                             'DO 0')
+                   FROM information_schema.COLUMNS
+                   WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'records' AND COLUMN_NAME = 'gender');
+PREPARE add_gender FROM @add_gender;
+EXECUTE add_gender;
+DEALLOCATE PREPARE add_gender;
@@ -0,0 +1,89 @@
+package model;
+
+import java.time.DateTimeException;
+import java.time.Month;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * BillingPeriod - Conversions for the billing month (a YearMonth).
+ *
+ * The database keeps the period as a yyyymm INT (202512 = December 2025) so
+ * it sorts chronologically and "last 6 months" is an index range scan; the
+ * screens show it as "December 2025".
+ */
+public final class BillingPeriod {
+    public static final DateTimeFormatter FORMAT = DateTimeFormatter.ofPattern("MMMM yyyy", Locale.ENGLISH);
+
+    private static final DateTimeFormatter PARSE_FORMAT = new DateTimeFormatterBuilder()
+            .parseCaseInsensitive()
+            .appendPattern("MMMM yyyy")
+            .toFormatter(Locale.ENGLISH);
+
+    private BillingPeriod() {
+    }
+
+    public static YearMonth current() {
+        return YearMonth.now();
+    }
+
+    // Periods offered in month pickers: next month back to a year ago, newest first
+    public static List<YearMonth> recent() {
+        List<YearMonth> periods = new ArrayList<>();
+        YearMonth now = current();
+        for (int i = 1; i >= -11; i--) {
+            periods.add(now.plusMonths(i));
+        }
+        return periods;
+    }
+
+    // 202512 for December 2025
+    public static int toKey(YearMonth period) {
+        return period.getYear() * 100 + period.getMonthValue();
+    }
+
+    // Period for a yyyymm key, or null for 0 / out of range
+    public static YearMonth fromKey(int key) {
+        try {
+            return key > 0 ? YearMonth.of(key / 100, key % 100) : null;
+        } catch (DateTimeException e) {
+            return null;
+        }
+    }
+
+    // "December 2025", or null for null
+    public static String format(YearMonth period) {
+        return period != null ? period.format(FORMAT) : null;
+    }
+
+    /**
+     * Parse "December 2025". A bare month name ("December", as older screens
+     * saved it) means its latest occurrence not after the current month.
+     * Returns null for anything else.
+     */
+    public static YearMonth parse(String text) {
+        if (text == null || text.trim().isEmpty()) {
+            return null;
+        }
+        String value = text.trim();
+        if (value.indexOf(' ') > 0) {
+            try {
+                return YearMonth.parse(value, PARSE_FORMAT);
+            } catch (DateTimeException e) {
+                return null;
+            }
+        }
+        try {
+            Month month = Month.valueOf(value.toUpperCase(Locale.ROOT));
+            YearMonth now = current();
+            YearMonth period = now.withMonth(month.getValue());
+            return period.isAfter(now) ? period.minusYears(1) : period;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
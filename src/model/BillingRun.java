@@ -0,0 +1,35 @@
+package model;
+
+import java.time.YearMonth;
+
+/**
+ * Result of one monthly billing run (counts and timing)
+ */
+public class BillingRun {
+    private final YearMonth period;
+    private final int occupiedTenants;   // tenants in Occupied rooms
+    private final int billsGenerated;    // new payment rows inserted
+    private final long elapsedMillis;
+
+    public BillingRun(YearMonth period, int occupiedTenants, int billsGenerated, long elapsedMillis) {
+        this.period = period;
+        this.occupiedTenants = occupiedTenants;
+        this.billsGenerated = billsGenerated;
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    public YearMonth getPeriod() { return period; }
+    public String getMonth() { return BillingPeriod.format(period); }
+    public int getOccupiedTenants() { return occupiedTenants; }
+    public int getBillsGenerated() { return billsGenerated; }
+    public long getElapsedMillis() { return elapsedMillis; }
+
+    // Tenants skipped because a bill for the month already covers them
+    public int getAlreadyBilled() { return occupiedTenants - billsGenerated; }
+
+    @Override
+    public String toString() {
+        return getMonth() + ": " + billsGenerated + " bills generated, " + getAlreadyBilled()
+                + " already billed, " + occupiedTenants + " tenants in " + elapsedMillis + " ms";
+    }
+}
@@ -0,0 +1,71 @@
+package model;
+
+import java.time.YearMonth;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Immutable snapshot of every billing_settings row, plus the version it
+ * was read at (row count and newest updated_at, see V7). Readers keep a
+ * reference; a change produces a new snapshot instead of editing this one.
+ */
+public final class BillingSettings {
+    public static final String BILLING_DAY = "billing_day";
+    public static final String BILLING_ENABLED = "billing_enabled";
+    public static final String LAST_BILLED_PERIOD = "last_billed_period";
+
+    private final Map<String, String> values;
+    private final String version;
+
+    public BillingSettings(Map<String, String> values, String version) {
+        this.values = Collections.unmodifiableMap(new HashMap<>(values));
+        this.version = version;
+    }
+
+    // Nothing loaded yet (or the load failed): every setting at its default
+    public static BillingSettings empty() {
+        return new BillingSettings(Collections.emptyMap(), "");
+    }
+
+    public String get(String name, String defaultValue) {
+        String value = values.get(name);
+        return value != null ? value : defaultValue;
+    }
+
+    public String getVersion() {
+        return version;
+    }
+
+    // 1-31; an unreadable value counts as the 1st
+    public int getBillingDay() {
+        try {
+            return Integer.parseInt(get(BILLING_DAY, "1").trim());
+        } catch (NumberFormatException e) {
+            return 1;
+        }
+    }
+
+    public boolean isBillingEnabled() {
+        return Boolean.parseBoolean(get(BILLING_ENABLED, "true").trim());
+    }
+
+    // null if never billed or unreadable
+    public YearMonth getLastBilledPeriod() {
+        try {
+            return BillingPeriod.fromKey(Integer.parseInt(get(LAST_BILLED_PERIOD, "0").trim()));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    // Settings that decide when the scheduler runs differ between the two snapshots
+    public boolean scheduleDiffers(BillingSettings other) {
+        return getBillingDay() != other.getBillingDay() || isBillingEnabled() != other.isBillingEnabled();
+    }
+
+    @Override
+    public String toString() {
+        return values + " @" + version;
+    }
+}
@@ -0,0 +1,52 @@
+package model;
+
+/**
+ * A row written through a DAO: which entity, which id, what happened and the
+ * row as it is now (null for DELETED). INVALIDATED means rows of that entity
+ * changed in a way not tracked row by row (bulk updates) - reload them.
+ */
+public class DataChange {
+    public enum Entity { ROOM, TENANT, PAYMENT }
+    public enum Operation { CREATED, UPDATED, DELETED, INVALIDATED }
+
+    private final Entity entity;
+    private final int id;
+    private final Operation operation;
+    private final Object state;
+
+    private DataChange(Entity entity, int id, Operation operation, Object state) {
+        this.entity = entity;
+        this.id = id;
+        this.operation = operation;
+        this.state = state;
+    }
+
+    public static DataChange created(Room room) { return new DataChange(Entity.ROOM, room.getId(), Operation.CREATED, room); }
+    public static DataChange updated(Room room) { return new DataChange(Entity.ROOM, room.getId(), Operation.UPDATED, room); }
+    public static DataChange created(Tenant tenant) { return new DataChange(Entity.TENANT, tenant.getTenantId(), Operation.CREATED, tenant); }
+    public static DataChange updated(Tenant tenant) { return new DataChange(Entity.TENANT, tenant.getTenantId(), Operation.UPDATED, tenant); }
+    public static DataChange created(Payment payment) { return new DataChange(Entity.PAYMENT, payment.getId(), Operation.CREATED, payment); }
+    public static DataChange updated(Payment payment) { return new DataChange(Entity.PAYMENT, payment.getId(), Operation.UPDATED, payment); }
+
+    public static DataChange deleted(Entity entity, int id) {
+        return new DataChange(entity, id, Operation.DELETED, null);
+    }
+
+    public static DataChange invalidated(Entity entity) {
+        return new DataChange(entity, 0, Operation.INVALIDATED, null);
+    }
+
+    public Entity getEntity() { return entity; }
+    public int getId() { return id; }
+    public Operation getOperation() { return operation; }
+
+    // The written row, typed; null if this change is about another entity or has no row
+    public Room getRoom() { return entity == Entity.ROOM ? (Room) state : null; }
+    public Tenant getTenant() { return entity == Entity.TENANT ? (Tenant) state : null; }
+    public Payment getPayment() { return entity == Entity.PAYMENT ? (Payment) state : null; }
+
+    @Override
+    public String toString() {
+        return entity + " " + id + " " + operation;
+    }
+}
@@ -0,0 +1,71 @@
+package model;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Money - Peso amounts as a long count of centavos (₱12.34 = 1234).
+ *
+ * Models carry money as primitive longs, so adding up thousands of
+ * payments is exact integer arithmetic with no rounding drift and nothing
+ * allocated, and the order of the additions (e.g. a parallel stream)
+ * cannot change the total. The database columns are DECIMAL(10,2); use
+ * fromDecimal/toDecimal with getBigDecimal/setBigDecimal, never double.
+ */
+public final class Money {
+    public static final int SCALE = 2;            // centavos
+    public static final String SYMBOL = "₱";
+
+    private Money() {
+    }
+
+    // Centavos for a DECIMAL value (null = 0), rounded half up like MySQL
+    public static long fromDecimal(BigDecimal amount) {
+        if (amount == null) {
+            return 0L;
+        }
+        return amount.setScale(SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    public static BigDecimal toDecimal(long centavos) {
+        return BigDecimal.valueOf(centavos, SCALE);
+    }
+
+    /**
+     * Parse what the user typed ("1500", "1,500.50"); throws
+     * NumberFormatException for anything that isn't an amount
+     */
+    public static long parse(String text) {
+        if (text == null) {
+            throw new NumberFormatException("No amount");
+        }
+        String value = text.trim().replace(",", "");
+        if (value.startsWith(SYMBOL)) {
+            value = value.substring(SYMBOL.length()).trim();
+        }
+        try {
+            return fromDecimal(new BigDecimal(value));
+        } catch (ArithmeticException e) {
+            throw new NumberFormatException("Amount out of range: " + text);
+        }
+    }
+
+    // Exact sum; throws ArithmeticException rather than wrapping on overflow
+    public static long add(long a, long b) {
+        return Math.addExact(a, b);
+    }
+
+    public static long subtract(long a, long b) {
+        return Math.subtractExact(a, b);
+    }
+
+    // "1234.50", for text fields
+    public static String toPlainString(long centavos) {
+        return toDecimal(centavos).toPlainString();
+    }
+
+    // "₱1234.50", for labels and table cells
+    public static String format(long centavos) {
+        return SYMBOL + toPlainString(centavos);
+    }
+}
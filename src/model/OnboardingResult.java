@@ -0,0 +1,40 @@
+package model;
+
+/**
+ * Outcome of TenantDAO.onboardTenant, with the room occupancy seen inside
+ * the onboarding transaction so callers don't need to query it again
+ */
+public class OnboardingResult {
+    
+    public enum Status {
+        ADDED,
+        ROOM_NOT_FOUND,
+        ROOM_UNAVAILABLE,   // Maintenance / Under Repair
+        ROOM_FULL,
+        NO_PRICE,
+        FAILED
+    }
+    
+    private final Status status;
+    private final int tenantCount;   // tenants in the room after this call
+    private final int capacity;
+    private final long payment;      // monthly rate billed to the tenant, centavos
+    
+    public OnboardingResult(Status status, int tenantCount, int capacity, long payment) {
+        this.status = status;
+        this.tenantCount = tenantCount;
+        this.capacity = capacity;
+        this.payment = payment;
+    }
+    
+    public static OnboardingResult failed() {
+        return new OnboardingResult(Status.FAILED, 0, 0, 0L);
+    }
+    
+    public Status getStatus() { return status; }
+    public int getTenantCount() { return tenantCount; }
+    public int getCapacity() { return capacity; }
+    public long getPayment() { return payment; }
+    
+    public boolean isAdded() { return status == Status.ADDED; }
+}
@@ -1,82 +1,112 @@
-package model;
-
-import java.time.LocalDate;
-
-public class Payment {
-    private int id;              // payment_id
-    private String tenantName;
-    private String roomNumber;
-    private double totalAmount;       // NEW - total amount for the month
-    private double amountPaid;
-    private String paymentType;
-    private double remainingBalance;
-    private String month;
-    private LocalDate paymentDate;    // paid_date
-    private String status;            // NEW - status (Fully Paid / Pending / Overdue / etc.)
-    private String notes;             // NEW - notes field
-
-    // Constructor with all fields (for DB read)
-    public Payment(int id, String tenantName, String roomNumber, double totalAmount,
-                   double amountPaid, String paymentType, double remainingBalance,
-                   String month, LocalDate paymentDate, String status, String notes) {
-        this.id = id;
-        this.tenantName = tenantName;
-        this.roomNumber = roomNumber;
-        this.totalAmount = totalAmount;
-        this.amountPaid = amountPaid;
-        this.paymentType = paymentType;
-        this.remainingBalance = remainingBalance;
-        this.month = month;
-        this.paymentDate = paymentDate;
-        this.status = status;
-        this.notes = notes;
-    }
-
-    // Constructor without id (for inserts) - keeps backwards compatibility (no status/notes)
-    public Payment(String tenantName, String roomNumber, double totalAmount,
-                   double amountPaid, String paymentType, double remainingBalance,
-                   String month, LocalDate paymentDate) {
-        this(0, tenantName, roomNumber, totalAmount, amountPaid, paymentType, remainingBalance, month, paymentDate, "Pending", "");
-    }
-
-    // Constructor without id but with status/notes
-    public Payment(String tenantName, String roomNumber, double totalAmount,
-                   double amountPaid, String paymentType, double remainingBalance,
-                   String month, LocalDate paymentDate, String status, String notes) {
-        this(0, tenantName, roomNumber, totalAmount, amountPaid, paymentType, remainingBalance, month, paymentDate, status, notes);
-    }
-
-    // Getters and setters
-    public int getId() { return id; }
-    public void setId(int id) { this.id = id; }
-
-    public String getTenantName() { return tenantName; }
-    public void setTenantName(String tenantName) { this.tenantName = tenantName; }
-
-    public String getRoomNumber() { return roomNumber; }
-    public void setRoomNumber(String roomNumber) { this.roomNumber = roomNumber; }
-
-    public double getTotalAmount() { return totalAmount; }
-    public void setTotalAmount(double totalAmount) { this.totalAmount = totalAmount; }
-
-    public double getAmountPaid() { return amountPaid; }
-    public void setAmountPaid(double amountPaid) { this.amountPaid = amountPaid; }
-
-    public String getPaymentType() { return paymentType; }
-    public void setPaymentType(String paymentType) { this.paymentType = paymentType; }
-
-    public double getRemainingBalance() { return remainingBalance; }
-    public void setRemainingBalance(double remainingBalance) { this.remainingBalance = remainingBalance; }
-
-    public String getMonth() { return month; }
-    public void setMonth(String month) { this.month = month; }
-
-    public LocalDate getPaymentDate() { return paymentDate; }
-    public void setPaymentDate(LocalDate paymentDate) { this.paymentDate = paymentDate; }
-
-    public String getStatus() { return status; }
-    public void setStatus(String status) { this.status = status; }
-
-    public String getNotes() { return notes; }
-    public void setNotes(String notes) { this.notes = notes; }
+package model;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+
+public class Payment {
+    private int id;              // payment_id
+    private int tenantId;        // records.id of the tenant billed (0 = not linked)
+    private String tenantName;
+    private String roomNumber;
+    private long totalAmount;         // NEW - total amount for the month
+    private long amountPaid;          // amounts in centavos (see Money)
+    private String paymentType;
+    private long remainingBalance;
+    private String month;             // display text, e.g. "December 2025"
+    private YearMonth period;         // billing period (payments.period, yyyymm)
+    private LocalDate paymentDate;    // paid_date
+    private String status;            // NEW - status (Fully Paid / Pending / Overdue / etc.)
+    private String notes;             // NEW - notes field
+
+    // Constructor with all fields (for DB read)
+    public Payment(int id, String tenantName, String roomNumber, long totalAmount,
+                   long amountPaid, String paymentType, long remainingBalance,
+                   String month, LocalDate paymentDate, String status, String notes) {
+        this.id = id;
+        this.tenantName = tenantName;
+        this.roomNumber = roomNumber;
+        this.totalAmount = totalAmount;
+        this.amountPaid = amountPaid;
+        this.paymentType = paymentType;
+        this.remainingBalance = remainingBalance;
+        setMonth(month);
+        this.paymentDate = paymentDate;
+        this.status = status;
+        this.notes = notes;
+    }
+
+    // Constructor without id (for inserts) - keeps backwards compatibility (no status/notes)
+    public Payment(String tenantName, String roomNumber, long totalAmount,
+                   long amountPaid, String paymentType, long remainingBalance,
+                   String month, LocalDate paymentDate) {
+        this(0, tenantName, roomNumber, totalAmount, amountPaid, paymentType, remainingBalance, month, paymentDate, "Pending", "");
+    }
+
+    // Constructor without id but with status/notes
+    public Payment(String tenantName, String roomNumber, long totalAmount,
+                   long amountPaid, String paymentType, long remainingBalance,
+                   String month, LocalDate paymentDate, String status, String notes) {
+        this(0, tenantName, roomNumber, totalAmount, amountPaid, paymentType, remainingBalance, month, paymentDate, status, notes);
+    }
+
+    /**
+     * Status for a bill once amountPaid of totalAmount has been paid
+     * (exact centavo comparison, so a fully paid bill never shows ₱0.00 left)
+     */
+    public static String statusFor(long totalAmount, long amountPaid) {
+        if (amountPaid >= totalAmount) {
+            return "Fully Paid";
+        } else if (amountPaid > 0) {
+            return "Partial Payment";
+        }
+        return "Pending";
+    }
+
+    // Getters and setters
+    public int getId() { return id; }
+    public void setId(int id) { this.id = id; }
+
+    public int getTenantId() { return tenantId; }
+    public void setTenantId(int tenantId) { this.tenantId = tenantId; }
+
+    public String getTenantName() { return tenantName; }
+    public void setTenantName(String tenantName) { this.tenantName = tenantName; }
+
+    public String getRoomNumber() { return roomNumber; }
+    public void setRoomNumber(String roomNumber) { this.roomNumber = roomNumber; }
+
+    public long getTotalAmount() { return totalAmount; }
+    public void setTotalAmount(long totalAmount) { this.totalAmount = totalAmount; }
+
+    public long getAmountPaid() { return amountPaid; }
+    public void setAmountPaid(long amountPaid) { this.amountPaid = amountPaid; }
+
+    public String getPaymentType() { return paymentType; }
+    public void setPaymentType(String paymentType) { this.paymentType = paymentType; }
+
+    public long getRemainingBalance() { return remainingBalance; }
+    public void setRemainingBalance(long remainingBalance) { this.remainingBalance = remainingBalance; }
+
+    public String getMonth() { return month; }
+
+    // Also sets the period when the text is a month ("December 2025" or "December")
+    public void setMonth(String month) {
+        this.period = BillingPeriod.parse(month);
+        this.month = period != null ? BillingPeriod.format(period) : month;
+    }
+
+    public YearMonth getPeriod() { return period; }
+    public void setPeriod(YearMonth period) {
+        this.period = period;
+        this.month = BillingPeriod.format(period);
+    }
+
+    public LocalDate getPaymentDate() { return paymentDate; }
+    public void setPaymentDate(LocalDate paymentDate) { this.paymentDate = paymentDate; }
+
+    public String getStatus() { return status; }
+    public void setStatus(String status) { this.status = status; }
+
+    public String getNotes() { return notes; }
+    public void setNotes(String notes) { this.notes = notes; }
 }
\ No newline at end of file
@@ -0,0 +1,31 @@
+package model;
+
+import java.time.LocalDate;
+
+/**
+ * Position in the payment history ordered by payment_date DESC, payment_id DESC.
+ * A page starting "after" a cursor continues right below that row, so paging
+ * never needs OFFSET. paymentDate is null for unpaid rows (they sort last).
+ */
+public class PaymentCursor {
+    private final LocalDate paymentDate;
+    private final int paymentId;
+
+    public PaymentCursor(LocalDate paymentDate, int paymentId) {
+        this.paymentDate = paymentDate;
+        this.paymentId = paymentId;
+    }
+
+    // Cursor positioned on the given row
+    public static PaymentCursor of(Payment payment) {
+        return new PaymentCursor(payment.getPaymentDate(), payment.getId());
+    }
+
+    public LocalDate getPaymentDate() { return paymentDate; }
+    public int getPaymentId() { return paymentId; }
+
+    @Override
+    public String toString() {
+        return (paymentDate != null ? paymentDate.toString() : "unpaid") + "#" + paymentId;
+    }
+}
@@ -0,0 +1,77 @@
+package model;
+
+import java.time.YearMonth;
+import java.util.Objects;
+
+/**
+ * Filter applied on the Payment Records screen (billing period range, status,
+ * search text). A null period bound leaves that end of the range open;
+ * "All" or an empty status means the status filter is off.
+ */
+public class PaymentFilter {
+    public static final String ALL = "All";
+
+    private final YearMonth fromPeriod;
+    private final YearMonth toPeriod;
+    private final String status;
+    private final String searchText;
+
+    public PaymentFilter(YearMonth fromPeriod, YearMonth toPeriod, String status, String searchText) {
+        this.fromPeriod = fromPeriod;
+        this.toPeriod = toPeriod;
+        this.status = normalize(status);
+        this.searchText = searchText != null ? searchText.trim() : "";
+    }
+
+    // No filtering at all (every payment)
+    public static PaymentFilter all() {
+        return new PaymentFilter(null, null, ALL, "");
+    }
+
+    // One billing period, any status (the Payment Records default)
+    public static PaymentFilter forPeriod(YearMonth period) {
+        return new PaymentFilter(period, period, ALL, "");
+    }
+
+    private static String normalize(String value) {
+        if (value == null || value.trim().isEmpty() || ALL.equalsIgnoreCase(value.trim())) {
+            return null;
+        }
+        return value.trim();
+    }
+
+    public YearMonth getFromPeriod() { return fromPeriod; }
+    public YearMonth getToPeriod() { return toPeriod; }
+    public String getStatus() { return status; }
+    public String getSearchText() { return searchText; }
+
+    public boolean hasPeriod() { return fromPeriod != null || toPeriod != null; }
+    public boolean hasStatus() { return status != null; }
+    public boolean hasSearchText() { return !searchText.isEmpty(); }
+
+    // The status and period conditions checked in memory (the search text needs the database)
+    public boolean matchesStatusAndPeriod(Payment payment) {
+        if (status != null && !status.equalsIgnoreCase(payment.getStatus())) return false;
+        YearMonth period = payment.getPeriod();
+        if (fromPeriod != null && (period == null || period.isBefore(fromPeriod))) return false;
+        if (toPeriod != null && (period == null || period.isAfter(toPeriod))) return false;
+        return true;
+    }
+
+    // Same filter = same rows, so a repeated search can skip the query
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof PaymentFilter)) return false;
+        PaymentFilter other = (PaymentFilter) o;
+        return Objects.equals(fromPeriod, other.fromPeriod)
+            && Objects.equals(toPeriod, other.toPeriod)
+            && Objects.equals(status, other.status)
+            && searchText.equals(other.searchText);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(fromPeriod, toPeriod, status, searchText);
+    }
+}
@@ -0,0 +1,53 @@
+package model;
+
+/**
+ * Totals for the Payment Records stat cards, computed by the database
+ */
+public class PaymentStats {
+    private final int paymentCount;
+    private final long totalCollected;     // SUM(amount_paid), centavos
+    private final int fullyPaidCount;
+    private final int pendingCount;
+    private final int overdueCount;
+
+    public PaymentStats(int paymentCount, long totalCollected, int fullyPaidCount, int pendingCount, int overdueCount) {
+        this.paymentCount = paymentCount;
+        this.totalCollected = totalCollected;
+        this.fullyPaidCount = fullyPaidCount;
+        this.pendingCount = pendingCount;
+        this.overdueCount = overdueCount;
+    }
+
+    public static PaymentStats empty() {
+        return new PaymentStats(0, 0L, 0, 0, 0);
+    }
+
+    /**
+     * These totals after one counted payment changed from before to after
+     * (same filter, so the count stays)
+     */
+    public PaymentStats replace(Payment before, Payment after) {
+        return new PaymentStats(
+            paymentCount,
+            Money.add(Money.subtract(totalCollected, before.getAmountPaid()), after.getAmountPaid()),
+            fullyPaidCount - flag(before, "Fully Paid") + flag(after, "Fully Paid"),
+            pendingCount - pending(before) + pending(after),
+            overdueCount - flag(before, "Overdue") + flag(after, "Overdue")
+        );
+    }
+
+    // 1 if the payment counts towards a status card (same tests as PaymentDAO.getPaymentStats)
+    private static int flag(Payment p, String status) {
+        return status.equalsIgnoreCase(p.getStatus()) ? 1 : 0;
+    }
+
+    private static int pending(Payment p) {
+        return p.getStatus() == null ? 1 : flag(p, "Pending");
+    }
+
+    public int getPaymentCount() { return paymentCount; }
+    public long getTotalCollected() { return totalCollected; }
+    public int getFullyPaidCount() { return fullyPaidCount; }
+    public int getPendingCount() { return pendingCount; }
+    public int getOverdueCount() { return overdueCount; }
+}
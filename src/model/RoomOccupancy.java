@@ -0,0 +1,29 @@
+package model;
+
+/**
+ * Room with its current tenant count (one row of RoomDAO.getRoomOccupancy)
+ */
+public class RoomOccupancy {
+    private final String roomNumber;
+    private final int capacity;
+    private final int tenantCount;
+    private final long price;          // centavos
+    private final String status;
+
+    public RoomOccupancy(String roomNumber, int capacity, int tenantCount, long price, String status) {
+        this.roomNumber = roomNumber;
+        this.capacity = capacity;
+        this.tenantCount = tenantCount;
+        this.price = price;
+        this.status = status;
+    }
+
+    public String getRoomNumber() { return roomNumber; }
+    public int getCapacity() { return capacity; }
+    public int getTenantCount() { return tenantCount; }
+    public long getPrice() { return price; }
+    public String getStatus() { return status; }
+
+    // Room is not at full capacity
+    public boolean hasSpace() { return tenantCount < capacity; }
+}
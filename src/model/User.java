@@ -1,38 +1,38 @@
-package model;
-
-public class User {
-    private int userId;
-    private String username;
-    private String password;
-    private String fullName;
-    private String role;
-    
-    // Constructor for login (without ID)
-    public User(String username, String password) {
-        this.username = username;
-        this.password = password;
-    }
-    
-    // Constructor for database read (with all fields)
-    public User(int userId, String username, String password, String fullName, String role) {
-        this.userId = userId;
-        this.username = username;
-        this.password = password;
-        this.fullName = fullName;
-        this.role = role;
-    }
-    
-    // Getters
-    public int getUserId() { return userId; }
-    public String getUsername() { return username; }
-    public String getPassword() { return password; }
-    public String getFullName() { return fullName; }
-    public String getRole() { return role; }
-    
-    // Setters
-    public void setUserId(int userId) { this.userId = userId; }
-    public void setUsername(String username) { this.username = username; }
-    public void setPassword(String password) { this.password = password; }
-    public void setFullName(String fullName) { this.fullName = fullName; }
-    public void setRole(String role) { this.role = role; }
+package model;
+
+public class User {
+    private int userId;
+    private String username;
+    private String password;
+    private String fullName;
+    private String role;
+    
+    // Constructor for login (without ID)
+    public User(String username, String password) {
+        this.username = username;
+        this.password = password;
+    }
+    
+    // Constructor for database read (with all fields)
+    public User(int userId, String username, String password, String fullName, String role) {
+        this.userId = userId;
+        this.username = username;
+        this.password = password;
+        this.fullName = fullName;
+        this.role = role;
+    }
+    
+    // Getters
+    public int getUserId() { return userId; }
+    public String getUsername() { return username; }
+    public String getPassword() { return password; }
+    public String getFullName() { return fullName; }
+    public String getRole() { return role; }
+    
+    // Setters
+    public void setUserId(int userId) { this.userId = userId; }
+    public void setUsername(String username) { this.username = username; }
+    public void setPassword(String password) { this.password = password; }
+    public void setFullName(String fullName) { this.fullName = fullName; }
+    public void setRole(String role) { this.role = role; }
 }
\ No newline at end of file
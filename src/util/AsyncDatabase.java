@@ -0,0 +1,164 @@
+package util;
+
+import javax.swing.SwingUtilities;
+import java.lang.reflect.Method;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * AsyncDatabase - Runs DAO calls off the Swing event dispatch thread.
+ *
+ *   AsyncDatabase.load(() -> tenantDAO.getAllTenants(), tenants -> fillTable(tenants));
+ *
+ * The query runs on a database thread and the result is handed back on the
+ * EDT, so a slow link or a locked table never freezes the screen. Queries
+ * run on virtual threads when the JVM has them (Java 21+); otherwise on a
+ * pool of daemon threads as large as the connection pool, since more
+ * threads than connections would only queue inside the pool.
+ *
+ * Futures returned here can be cancelled: a query that hasn't started is
+ * skipped, one waiting for a pooled connection is interrupted, and the
+ * result of a cancelled query is never delivered. A statement already
+ * running on the server finishes there; its result is dropped.
+ */
+public final class AsyncDatabase {
+    private static final ExecutorService EXECUTOR = createExecutor();
+
+    private AsyncDatabase() {
+    }
+
+    /**
+     * Run query on a database thread
+     */
+    public static <T> CompletableFuture<T> supply(Callable<T> query) {
+        Task<T> task = new Task<>(query);
+        EXECUTOR.execute(task);
+        return task;
+    }
+
+    /**
+     * Run query on a database thread and hand its result to onResult on the EDT
+     */
+    public static <T> CompletableFuture<T> load(Callable<T> query, Consumer<? super T> onResult) {
+        CompletableFuture<T> future = supply(query);
+        onEdt(future, onResult);
+        return future;
+    }
+
+    /**
+     * Same, with onError called on the EDT if the query throws
+     */
+    public static <T> CompletableFuture<T> load(Callable<T> query, Consumer<? super T> onResult,
+            Consumer<? super Throwable> onError) {
+        CompletableFuture<T> future = supply(query);
+        onEdt(future, onResult, onError);
+        return future;
+    }
+
+    /**
+     * Hand the result of future to onResult on the EDT once it completes.
+     * Nothing is delivered if the future is cancelled; a failure is logged.
+     */
+    public static <T> void onEdt(CompletableFuture<T> future, Consumer<? super T> onResult) {
+        onEdt(future, onResult, error -> {
+            System.err.println("❌ Database task failed: " + error);
+            error.printStackTrace();
+        });
+    }
+
+    public static <T> void onEdt(CompletableFuture<T> future, Consumer<? super T> onResult,
+            Consumer<? super Throwable> onError) {
+        future.whenComplete((result, error) -> {
+            Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+            if (cause instanceof CancellationException) {
+                return;
+            }
+            SwingUtilities.invokeLater(() -> {
+                if (future.isCancelled()) {
+                    return;
+                }
+                if (cause != null) {
+                    onError.accept(cause);
+                } else {
+                    onResult.accept(result);
+                }
+            });
+        });
+    }
+
+    // Virtual threads when available (looked up reflectively so this still builds on Java 17)
+    private static ExecutorService createExecutor() {
+        try {
+            Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            System.out.println("🧵 Database tasks run on virtual threads");
+            return (ExecutorService) factory.invoke(null);
+        } catch (ReflectiveOperationException e) {
+            int threads = Math.max(2, DatabaseConfig.load().getMaxPoolSize());
+            AtomicInteger count = new AtomicInteger();
+            ThreadFactory factory = r -> {
+                Thread t = new Thread(r, "db-async-" + count.incrementAndGet());
+                t.setDaemon(true);
+                return t;
+            };
+            ThreadPoolExecutor pool = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                    new LinkedBlockingQueue<>(), factory);
+            pool.allowCoreThreadTimeOut(true);
+            return pool;
+        }
+    }
+
+    /**
+     * A query and its future; cancel(true) interrupts the thread running it
+     */
+    private static final class Task<T> extends CompletableFuture<T> implements Runnable {
+        private final Callable<T> query;
+        private Thread runner;   // guarded by this
+
+        Task(Callable<T> query) {
+            this.query = query;
+        }
+
+        @Override
+        public void run() {
+            synchronized (this) {
+                if (isDone()) {
+                    return;   // cancelled before it started
+                }
+                runner = Thread.currentThread();
+            }
+            try {
+                complete(query.call());
+            } catch (Throwable e) {
+                completeExceptionally(e);
+            } finally {
+                synchronized (this) {
+                    runner = null;
+                    Thread.interrupted();   // don't leave a pooled thread interrupted
+                }
+            }
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            boolean cancelled = super.cancel(mayInterruptIfRunning);
+            if (cancelled && mayInterruptIfRunning) {
+                synchronized (this) {
+                    if (runner != null) {
+                        runner.interrupt();
+                    }
+                }
+            }
+            return cancelled;
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package util;
+
+/**
+ * CacheStats - Immutable snapshot of one EntityCache's counters.
+ * Get one from EntityCache.getStats() or EntityCache.allStats().
+ */
+public class CacheStats {
+    private final String name;
+    private final int size;
+    private final int maxSize;
+    private final long hits;
+    private final long misses;
+    private final long evictions;
+    private final long expirations;
+    private final long invalidations;
+
+    public CacheStats(String name, int size, int maxSize, long hits, long misses,
+                      long evictions, long expirations, long invalidations) {
+        this.name = name;
+        this.size = size;
+        this.maxSize = maxSize;
+        this.hits = hits;
+        this.misses = misses;
+        this.evictions = evictions;
+        this.expirations = expirations;
+        this.invalidations = invalidations;
+    }
+
+    public String getName() { return name; }
+    public int getSize() { return size; }
+    public int getMaxSize() { return maxSize; }
+    public long getHits() { return hits; }
+
+    // Lookups that went to the database (absent or expired)
+    public long getMisses() { return misses; }
+
+    // Entries dropped to stay within maxSize
+    public long getEvictions() { return evictions; }
+
+    // Entries found past their time-to-live
+    public long getExpirations() { return expirations; }
+
+    // Entries dropped by a write
+    public long getInvalidations() { return invalidations; }
+
+    public double getHitRatio() {
+        long lookups = hits + misses;
+        return lookups == 0 ? 0.0 : (double) hits / lookups;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s: size=%d/%d hits=%d misses=%d hitRatio=%.1f%% evictions=%d expirations=%d invalidations=%d",
+                name, size, maxSize, hits, misses, getHitRatio() * 100, evictions, expirations, invalidations);
+    }
+}
@@ -0,0 +1,56 @@
+package util;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * ColumnIndex - Column positions of a ResultSet, looked up once from its
+ * metadata so rows can be read by index.
+ *
+ * Labels are matched case-insensitively; if two columns share a label the
+ * first one wins, like ResultSet.findColumn. A column the query doesn't
+ * return has position 0, so optional columns (added by a later migration)
+ * are checked once up front instead of by catching an exception per row.
+ */
+public final class ColumnIndex {
+    public static final int MISSING = 0;
+
+    private final Map<String, Integer> positions;
+
+    private ColumnIndex(Map<String, Integer> positions) {
+        this.positions = positions;
+    }
+
+    public static ColumnIndex of(ResultSet rs) throws SQLException {
+        ResultSetMetaData meta = rs.getMetaData();
+        int count = meta.getColumnCount();
+        Map<String, Integer> positions = new HashMap<>(count * 2);
+        for (int i = 1; i <= count; i++) {
+            positions.putIfAbsent(meta.getColumnLabel(i).toLowerCase(Locale.ROOT), i);
+        }
+        return new ColumnIndex(positions);
+    }
+
+    // 1-based position of the column, or MISSING
+    public int find(String label) {
+        Integer position = positions.get(label.toLowerCase(Locale.ROOT));
+        return position != null ? position : MISSING;
+    }
+
+    // Position of a column the mapping can't do without
+    public int require(String label) throws SQLException {
+        int position = find(label);
+        if (position == MISSING) {
+            throw new SQLException("Result has no column '" + label + "'");
+        }
+        return position;
+    }
+
+    public boolean has(String label) {
+        return find(label) != MISSING;
+    }
+}
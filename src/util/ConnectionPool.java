@@ -0,0 +1,222 @@
+package util;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.Iterator;
+import java.util.Timer;
+import java.util.TimerTask;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * ConnectionPool - Bounded JDBC connection pool
+ * - at most maxSize physical connections; borrowers wait up to maxWaitMillis
+ * - idle connections are reused most-recently-returned first
+ * - connections idle longer than validateAfterIdleMillis are checked before reuse
+ * - a background timer closes connections idle past idleTimeoutMillis,
+ *   keeping at least minIdle open
+ * - each connection keeps an LRU StatementCache of statementCacheSize entries
+ */
+public class ConnectionPool {
+    private final DatabaseConfig config;
+    private final Semaphore permits;
+    private final LinkedBlockingDeque<PooledConnection> idle = new LinkedBlockingDeque<>();
+    private final AtomicInteger active = new AtomicInteger();
+    private final Timer evictor;
+    private volatile boolean closed;
+
+    // Statistics
+    private final LongAdder borrowCount = new LongAdder();
+    private final LongAdder timeoutCount = new LongAdder();
+    private final LongAdder createdCount = new LongAdder();
+    private final LongAdder destroyedCount = new LongAdder();
+    private final LongAdder totalWaitNanos = new LongAdder();
+    private final LongAdder totalBorrowNanos = new LongAdder();
+    private final AtomicLong maxWaitNanos = new AtomicLong();
+    private final AtomicLong maxBorrowNanos = new AtomicLong();
+    private final LongAdder statementHits = new LongAdder();
+    private final LongAdder statementMisses = new LongAdder();
+    private final LongAdder statementEvictions = new LongAdder();
+
+    public ConnectionPool(DatabaseConfig config) throws SQLException {
+        this.config = config;
+        this.permits = new Semaphore(config.getMaxPoolSize(), true);
+        try {
+            Class.forName(config.getDriverClass());
+        } catch (ClassNotFoundException e) {
+            throw new SQLException("MySQL Driver not found", e);
+        }
+
+        evictor = new Timer("db-pool-evictor", true); // Daemon thread
+        long interval = config.getEvictionIntervalMillis();
+        if (interval > 0) {
+            evictor.schedule(new TimerTask() {
+                @Override
+                public void run() {
+                    evictIdle();
+                }
+            }, interval, interval);
+        }
+    }
+
+    /**
+     * Borrow a connection. Closing it returns it to the pool.
+     */
+    public Connection borrow() throws SQLException {
+        if (closed) {
+            throw new SQLException("Connection pool is shut down");
+        }
+        long start = System.nanoTime();
+        try {
+            if (!permits.tryAcquire(config.getMaxWaitMillis(), TimeUnit.MILLISECONDS)) {
+                timeoutCount.increment();
+                throw new SQLException("Timed out after " + config.getMaxWaitMillis()
+                        + " ms waiting for a database connection (" + getStats() + ")");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while waiting for a database connection", e);
+        }
+        long waited = System.nanoTime() - start;
+
+        try {
+            PooledConnection pc = takeIdleOrCreate();
+            active.incrementAndGet();
+
+            long elapsed = System.nanoTime() - start;
+            borrowCount.increment();
+            totalWaitNanos.add(waited);
+            totalBorrowNanos.add(elapsed);
+            maxWaitNanos.accumulateAndGet(waited, Math::max);
+            maxBorrowNanos.accumulateAndGet(elapsed, Math::max);
+            return pc.lease();
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    private PooledConnection takeIdleOrCreate() throws SQLException {
+        PooledConnection pc;
+        while ((pc = idle.pollFirst()) != null) {
+            long idleFor = System.currentTimeMillis() - pc.getLastReturnedAt();
+            if (idleFor < config.getValidateAfterIdleMillis()
+                    || pc.validate(config.getValidationTimeoutSeconds())) {
+                return pc;
+            }
+            destroy(pc);
+        }
+        return create();
+    }
+
+    private PooledConnection create() throws SQLException {
+        Connection physical = DriverManager.getConnection(config.getUrl(), config.getUser(), config.getPassword());
+        try {
+            PooledConnection pc = new PooledConnection(this, physical, config.getStatementCacheSize());
+            createdCount.increment();
+            return pc;
+        } catch (SQLException e) {
+            physical.close();
+            throw e;
+        }
+    }
+
+    private void destroy(PooledConnection pc) {
+        pc.closePhysical();
+        destroyedCount.increment();
+    }
+
+    /**
+     * Called by PooledConnection when the borrower closes it
+     */
+    void release(PooledConnection pc) {
+        active.decrementAndGet();
+        try {
+            if (closed || pc.isBroken() || pc.getPhysical().isClosed()) {
+                destroy(pc);
+            } else {
+                pc.reset();
+                idle.offerFirst(pc);
+            }
+        } catch (SQLException e) {
+            destroy(pc);
+        } finally {
+            permits.release();
+        }
+    }
+
+    /**
+     * Open connections up to minIdle so the first screens don't pay the handshake
+     */
+    public synchronized void warmUp() {
+        while (!closed && idle.size() + active.get() < config.getMinIdle()) {
+            try {
+                idle.offerLast(create());
+            } catch (SQLException e) {
+                System.err.println("Could not warm up connection pool: " + e.getMessage());
+                break;
+            }
+        }
+    }
+
+    /**
+     * Close connections idle longer than idleTimeoutMillis, keeping minIdle,
+     * then top the pool back up to minIdle
+     */
+    void evictIdle() {
+        if (closed) return;
+        long now = System.currentTimeMillis();
+        Iterator<PooledConnection> it = idle.descendingIterator(); // oldest first
+        while (it.hasNext() && idle.size() > config.getMinIdle()) {
+            PooledConnection pc = it.next();
+            if (now - pc.getLastReturnedAt() > config.getIdleTimeoutMillis() && idle.remove(pc)) {
+                destroy(pc);
+            }
+        }
+        warmUp();
+    }
+
+    void recordStatementHit() { statementHits.increment(); }
+    void recordStatementMiss() { statementMisses.increment(); }
+    void recordStatementEviction() { statementEvictions.increment(); }
+
+    public DatabaseConfig getConfig() {
+        return config;
+    }
+
+    public PoolStats getStats() {
+        return new PoolStats(
+            active.get(),
+            idle.size(),
+            config.getMaxPoolSize(),
+            borrowCount.sum(),
+            timeoutCount.sum(),
+            createdCount.sum(),
+            destroyedCount.sum(),
+            totalWaitNanos.sum(),
+            maxWaitNanos.get(),
+            totalBorrowNanos.sum(),
+            maxBorrowNanos.get(),
+            statementHits.sum(),
+            statementMisses.sum(),
+            statementEvictions.sum()
+        );
+    }
+
+    /**
+     * Close every idle connection; borrowed ones are closed when returned
+     */
+    public void shutdown() {
+        closed = true;
+        evictor.cancel();
+        PooledConnection pc;
+        while ((pc = idle.pollFirst()) != null) {
+            destroy(pc);
+        }
+    }
+}
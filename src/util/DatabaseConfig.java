@@ -0,0 +1,108 @@
+package util;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Properties;
+
+/**
+ * DatabaseConfig - The one place database and pool settings come from.
+ * Values are read from database.properties in the working directory
+ * (same convention as theme.properties); anything missing falls back to
+ * the defaults below, which match the old hard-coded DAO settings.
+ * A -Ddb.* or -Dpool.* system property overrides the file (the test
+ * programs use -Ddb.url to point at a test database).
+ */
+public class DatabaseConfig {
+    private static final String CONFIG_FILE = "database.properties";
+
+    private final String driverClass;
+    private final String url;
+    private final String user;
+    private final String password;
+    private final int fetchSize;
+
+    private final int maxPoolSize;
+    private final int minIdle;
+    private final long maxWaitMillis;
+    private final long idleTimeoutMillis;
+    private final long evictionIntervalMillis;
+    private final long validateAfterIdleMillis;
+    private final int validationTimeoutSeconds;
+    private final int statementCacheSize;
+
+    private DatabaseConfig(Properties props) {
+        this.driverClass = props.getProperty("db.driver", "com.mysql.cj.jdbc.Driver");
+        this.url = props.getProperty("db.url", "jdbc:mysql://localhost/houserent");
+        this.user = props.getProperty("db.user", "root");
+        this.password = props.getProperty("db.password", "");
+        this.fetchSize = getInt(props, "db.fetchSize", 0);
+
+        this.maxPoolSize = Math.max(1, getInt(props, "pool.maxSize", 10));
+        this.minIdle = Math.max(0, Math.min(maxPoolSize, getInt(props, "pool.minIdle", 2)));
+        this.maxWaitMillis = getLong(props, "pool.maxWaitMillis", 5000);
+        this.idleTimeoutMillis = getLong(props, "pool.idleTimeoutMillis", 5 * 60 * 1000);
+        this.evictionIntervalMillis = getLong(props, "pool.evictionIntervalMillis", 60 * 1000);
+        this.validateAfterIdleMillis = getLong(props, "pool.validateAfterIdleMillis", 30 * 1000);
+        this.validationTimeoutSeconds = getInt(props, "pool.validationTimeoutSeconds", 2);
+        this.statementCacheSize = Math.max(0, getInt(props, "pool.statementCacheSize", 64));
+    }
+
+    /**
+     * Load settings from database.properties and -D overrides, using defaults for the rest
+     */
+    public static DatabaseConfig load() {
+        Properties props = new Properties();
+        File file = new File(CONFIG_FILE);
+        if (file.exists()) {
+            try (InputStream in = new FileInputStream(file)) {
+                props.load(in);
+            } catch (IOException e) {
+                System.err.println("Could not load database settings: " + e.getMessage());
+            }
+        }
+        for (String key : System.getProperties().stringPropertyNames()) {
+            if (key.startsWith("db.") || key.startsWith("pool.")) {
+                props.setProperty(key, System.getProperty(key));
+            }
+        }
+        return new DatabaseConfig(props);
+    }
+
+    private static int getInt(Properties props, String key, int defaultValue) {
+        try {
+            return Integer.parseInt(props.getProperty(key, String.valueOf(defaultValue)).trim());
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        }
+    }
+
+    private static long getLong(Properties props, String key, long defaultValue) {
+        try {
+            return Long.parseLong(props.getProperty(key, String.valueOf(defaultValue)).trim());
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        }
+    }
+
+    public String getDriverClass() { return driverClass; }
+    public String getUrl() { return url; }
+    public String getUser() { return user; }
+    public String getPassword() { return password; }
+
+    // Rows per round trip for streaming reads. 0 (default) = MySQL row-by-row
+    // streaming; a positive size needs useCursorFetch=true in db.url
+    public int getFetchSize() { return fetchSize > 0 ? fetchSize : Integer.MIN_VALUE; }
+
+    public int getMaxPoolSize() { return maxPoolSize; }
+    public int getMinIdle() { return minIdle; }
+    public long getMaxWaitMillis() { return maxWaitMillis; }
+    public long getIdleTimeoutMillis() { return idleTimeoutMillis; }
+    public long getEvictionIntervalMillis() { return evictionIntervalMillis; }
+    public long getValidateAfterIdleMillis() { return validateAfterIdleMillis; }
+    public int getValidationTimeoutSeconds() { return validationTimeoutSeconds; }
+
+    // Prepared statements cached per connection; 0 disables the cache
+    public int getStatementCacheSize() { return statementCacheSize; }
+}
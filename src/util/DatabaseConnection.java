@@ -1,36 +1,80 @@
-package util;
-
-import java.sql.*;
-
-/**
- * DatabaseConnection - Centralized database connection utility
- * Use this instead of creating connections everywhere
- */
-public class DatabaseConnection {
-    private static final String URL = "jdbc:mysql://localhost/houserent";
-    private static final String USER = "root";
-    private static final String PASSWORD = "";
-    
-    /**
-     * Get database connection
-     */
-    public static Connection getConnection() throws SQLException {
-        try {
-            Class.forName("com.mysql.cj.jdbc.Driver");
-            return DriverManager.getConnection(URL, USER, PASSWORD);
-        } catch (ClassNotFoundException e) {
-            throw new SQLException("MySQL Driver not found", e);
-        }
-    }
-    
-    /**
-     * Test if connection works
-     */
-    public static boolean testConnection() {
-        try (Connection conn = getConnection()) {
-            return conn != null && !conn.isClosed();
-        } catch (SQLException e) {
-            return false;
-        }
-    }
-}
\ No newline at end of file
+package util;
+
+import java.sql.*;
+
+/**
+ * DatabaseConnection - Centralized database connection utility
+ * Use this instead of creating connections everywhere.
+ * Connections are borrowed from a shared ConnectionPool configured by
+ * DatabaseConfig; always close them (try-with-resources) so they go back
+ * to the pool.
+ */
+public class DatabaseConnection {
+    private static volatile ConnectionPool pool;
+
+    private static ConnectionPool getPool() throws SQLException {
+        ConnectionPool p = pool;
+        if (p == null) {
+            synchronized (DatabaseConnection.class) {
+                p = pool;
+                if (p == null) {
+                    p = new ConnectionPool(DatabaseConfig.load());
+                    final ConnectionPool created = p;
+                    Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                        System.out.println("🛑 Closing connection pool: " + created.getStats());
+                        for (CacheStats stats : EntityCache.allStats()) {
+                            System.out.println("🗃️ Cache " + stats);
+                        }
+                        created.shutdown();
+                    }, "db-pool-shutdown"));
+                    pool = p;
+                }
+            }
+        }
+        return p;
+    }
+
+    /**
+     * Get database connection (borrowed from the pool; close() returns it)
+     */
+    public static Connection getConnection() throws SQLException {
+        return getPool().borrow();
+    }
+
+    /**
+     * Default fetch size for streaming reads (see ResultStream)
+     */
+    public static int getFetchSize() throws SQLException {
+        return getPool().getConfig().getFetchSize();
+    }
+
+    /**
+     * Open the pool's minimum idle connections ahead of first use
+     */
+    public static void warmUp() {
+        try {
+            getPool().warmUp();
+        } catch (SQLException e) {
+            System.err.println("Could not start connection pool: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Current pool statistics (active, idle, wait time, borrow latency)
+     */
+    public static PoolStats getPoolStats() {
+        ConnectionPool p = pool;
+        return p != null ? p.getStats() : new PoolStats(0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0);
+    }
+
+    /**
+     * Test if connection works
+     */
+    public static boolean testConnection() {
+        try (Connection conn = getConnection()) {
+            return conn != null && !conn.isClosed();
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+}
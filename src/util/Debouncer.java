@@ -0,0 +1,38 @@
+package util;
+
+import javax.swing.Timer;
+
+/**
+ * Debouncer - Runs an action once input has paused. Each call restarts the
+ * delay, so typing a 10-letter name runs the search once, not ten times.
+ * Runs on the EDT; use from the EDT only.
+ */
+public final class Debouncer {
+    // Pause after the last keystroke before a search box searches
+    public static final int SEARCH_DELAY_MS = 250;
+
+    private final Timer timer;
+    private Runnable pending;
+
+    public Debouncer(int delayMs) {
+        timer = new Timer(delayMs, e -> {
+            Runnable action = pending;
+            pending = null;
+            if (action != null) {
+                action.run();
+            }
+        });
+        timer.setRepeats(false);
+    }
+
+    // Run action after the delay, replacing anything still waiting
+    public void call(Runnable action) {
+        pending = action;
+        timer.restart();
+    }
+
+    public void cancel() {
+        timer.stop();
+        pending = null;
+    }
+}
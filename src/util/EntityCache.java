@@ -0,0 +1,141 @@
+package util;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * EntityCache - Bounded in-memory cache for small, rarely changing tables
+ * (rooms, tenants, settings), shared by every DAO instance.
+ *
+ * Entries expire after a time-to-live and the least recently used entry is
+ * dropped once maxSize is reached. Writes update (put) or invalidate the
+ * entries they change, so the TTL only bounds how long a change made outside
+ * this application can go unseen.
+ *
+ * Loading happens outside the lock, so a slow query doesn't hold up other
+ * lookups. A load that started before an invalidation is returned to its
+ * caller but not stored, so a write is never overwritten by older data.
+ * Null results are not cached.
+ */
+public final class EntityCache<K, V> {
+    private static final List<EntityCache<?, ?>> ALL = new CopyOnWriteArrayList<>();
+
+    private final String name;
+    private final int maxSize;
+    private final long ttlNanos;
+    private final LinkedHashMap<K, Entry<V>> entries;
+
+    // guarded by this
+    private long generation;
+    private long hits;
+    private long misses;
+    private long evictions;
+    private long expirations;
+    private long invalidations;
+
+    public EntityCache(String name, int maxSize, long ttl, TimeUnit unit) {
+        this.name = name;
+        this.maxSize = maxSize;
+        this.ttlNanos = unit.toNanos(ttl);
+        this.entries = new LinkedHashMap<>(16, 0.75f, true); // access order = LRU
+        ALL.add(this);
+    }
+
+    /**
+     * Cached value for key, or loader's result on a miss
+     */
+    public V get(K key, Function<? super K, ? extends V> loader) {
+        long loadGeneration;
+        synchronized (this) {
+            Entry<V> entry = entries.get(key);
+            if (entry != null) {
+                if (System.nanoTime() - entry.loadedAt < ttlNanos) {
+                    hits++;
+                    return entry.value;
+                }
+                entries.remove(key);
+                expirations++;
+            }
+            misses++;
+            loadGeneration = generation;
+        }
+
+        V value = loader.apply(key);
+        if (value != null) {
+            synchronized (this) {
+                if (loadGeneration == generation) {
+                    store(key, value);
+                }
+            }
+        }
+        return value;
+    }
+
+    // Cached value for key without loading it (null if absent or expired); not counted as a hit or miss
+    public synchronized V getIfPresent(K key) {
+        Entry<V> entry = entries.get(key);
+        return entry != null && System.nanoTime() - entry.loadedAt < ttlNanos ? entry.value : null;
+    }
+
+    // Write-through: replace the entry with the value just written
+    public synchronized void put(K key, V value) {
+        generation++;
+        if (value != null) {
+            store(key, value);
+        } else {
+            invalidate(key);
+        }
+    }
+
+    public synchronized void invalidate(K key) {
+        generation++;
+        if (entries.remove(key) != null) {
+            invalidations++;
+        }
+    }
+
+    public synchronized void invalidateAll() {
+        generation++;
+        invalidations += entries.size();
+        entries.clear();
+    }
+
+    public synchronized CacheStats getStats() {
+        return new CacheStats(name, entries.size(), maxSize, hits, misses, evictions, expirations, invalidations);
+    }
+
+    // Counters of every cache created so far
+    public static List<CacheStats> allStats() {
+        List<CacheStats> stats = new ArrayList<>();
+        for (EntityCache<?, ?> cache : ALL) {
+            stats.add(cache.getStats());
+        }
+        return stats;
+    }
+
+    private void store(K key, V value) {
+        entries.put(key, new Entry<>(value, System.nanoTime()));
+        Iterator<Map.Entry<K, Entry<V>>> it = entries.entrySet().iterator(); // least recently used first
+        while (entries.size() > maxSize && it.hasNext()) {
+            it.next();
+            it.remove();
+            evictions++;
+        }
+    }
+
+    private static final class Entry<V> {
+        final V value;
+        final long loadedAt;
+
+        Entry(V value, long loadedAt) {
+            this.value = value;
+            this.loadedAt = loadedAt;
+        }
+    }
+}
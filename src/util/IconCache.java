@@ -0,0 +1,129 @@
+package util;
+
+import javax.imageio.ImageIO;
+import javax.swing.ImageIcon;
+import java.awt.Graphics2D;
+import java.awt.Image;
+import java.awt.RenderingHints;
+import java.awt.image.BaseMultiResolutionImage;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * IconCache - The icons of every screen, decoded and scaled once.
+ *
+ * Icons are read from /icons/ on the classpath (src/icons/ in the working
+ * directory when running from the sources). Each PNG is decoded once; each
+ * requested size is scaled once and shared by every screen and table cell
+ * that asks for it. An icon is a multi-resolution image holding the
+ * requested size plus 1.5x and 2x variants (when the source is large
+ * enough, or a name@2x.png exists), so Swing draws it sharp on HiDPI
+ * screens. Missing icons are remembered too: get returns null for them
+ * without touching the disk again.
+ */
+public final class IconCache {
+    private static final String RESOURCE_DIR = "/icons/";
+    private static final String FILE_DIR = "src/icons/";
+    private static final double[] SCALES = {1.0, 1.5, 2.0};
+
+    // Icons don't change while the app runs, so entries only leave through the size bound
+    private static final EntityCache<String, Optional<BufferedImage>> SOURCES =
+            new EntityCache<>("icon-sources", 64, 365, TimeUnit.DAYS);
+    private static final EntityCache<String, Optional<ImageIcon>> ICONS =
+            new EntityCache<>("icons", 256, 365, TimeUnit.DAYS);
+
+    private IconCache() {
+    }
+
+    /**
+     * The icon at width x height (logical pixels), or null if the file doesn't exist
+     */
+    public static ImageIcon get(String filename, int width, int height) {
+        return ICONS.get(filename + "@" + width + "x" + height, key -> scaled(filename, width, height)).orElse(null);
+    }
+
+    private static Optional<ImageIcon> scaled(String filename, int width, int height) {
+        Optional<BufferedImage> source = source(filename);
+        if (!source.isPresent()) {
+            return Optional.empty();
+        }
+        Optional<BufferedImage> hiDpi = source(hiDpiName(filename));
+        BufferedImage best = hiDpi.isPresent() ? hiDpi.get() : source.get();
+
+        List<Image> variants = new ArrayList<>();
+        for (double scale : SCALES) {
+            int w = (int) Math.round(width * scale);
+            int h = (int) Math.round(height * scale);
+            // Don't blow a small PNG up into a blurry "HiDPI" variant
+            if (scale == 1.0 || (w <= best.getWidth() && h <= best.getHeight())) {
+                variants.add(scale(scale == 1.0 ? source.get() : best, w, h));
+            }
+        }
+        Image image = variants.size() == 1 ? variants.get(0)
+                : new BaseMultiResolutionImage(variants.toArray(new Image[0]));
+        return Optional.of(new ImageIcon(image));
+    }
+
+    private static Optional<BufferedImage> source(String filename) {
+        return SOURCES.get(filename, IconCache::read);
+    }
+
+    private static Optional<BufferedImage> read(String filename) {
+        try {
+            URL url = IconCache.class.getResource(RESOURCE_DIR + filename);
+            if (url != null) {
+                return Optional.ofNullable(ImageIO.read(url));
+            }
+            File file = new File(FILE_DIR + filename);
+            if (file.exists()) {
+                return Optional.ofNullable(ImageIO.read(file));
+            }
+        } catch (IOException e) {
+            System.err.println("Error loading icon: " + filename);
+            return Optional.empty();
+        }
+        if (!filename.contains("@2x")) {
+            System.out.println("Icon not found: " + filename);
+        }
+        return Optional.empty();
+    }
+
+    private static String hiDpiName(String filename) {
+        int dot = filename.lastIndexOf('.');
+        return dot < 0 ? filename + "@2x" : filename.substring(0, dot) + "@2x" + filename.substring(dot);
+    }
+
+    /**
+     * Scale in halving steps, then one bicubic step to the exact size; going
+     * from 512px to 20px in a single step would drop most of the pixels
+     */
+    static BufferedImage scale(BufferedImage source, int width, int height) {
+        BufferedImage current = source;
+        while (current.getWidth() / 2 >= width && current.getHeight() / 2 >= height) {
+            current = draw(current, current.getWidth() / 2, current.getHeight() / 2, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+        }
+        if (current.getWidth() == width && current.getHeight() == height && current != source) {
+            return current;
+        }
+        return draw(current, width, height, RenderingHints.VALUE_INTERPOLATION_BICUBIC);
+    }
+
+    private static BufferedImage draw(BufferedImage source, int width, int height, Object interpolation) {
+        BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = target.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, interpolation);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            g.dispose();
+        }
+        return target;
+    }
+}
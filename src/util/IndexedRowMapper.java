@@ -0,0 +1,64 @@
+package util;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+
+/**
+ * IndexedRowMapper - Base for entity mappers that read by column index.
+ *
+ * The first row of each ResultSet resolves the column positions (bind);
+ * every row after that is read by index only (mapRow). Create one mapper
+ * per query - it remembers the ResultSet it was bound to and is not
+ * thread-safe.
+ */
+public abstract class IndexedRowMapper<T> implements RowMapper<T> {
+    private ResultSet boundTo;
+
+    @Override
+    public final T map(ResultSet rs) throws SQLException {
+        if (rs != boundTo) {
+            bind(ColumnIndex.of(rs));
+            boundTo = rs;
+        }
+        return mapRow(rs);
+    }
+
+    // Look up the column positions used by mapRow
+    protected abstract void bind(ColumnIndex columns) throws SQLException;
+
+    // Build the object for the current row
+    protected abstract T mapRow(ResultSet rs) throws SQLException;
+
+    // Read helpers: a MISSING column or SQL NULL gives the default
+
+    protected static String getString(ResultSet rs, int column, String defaultValue) throws SQLException {
+        if (column == ColumnIndex.MISSING) {
+            return defaultValue;
+        }
+        String value = rs.getString(column);
+        return value != null ? value : defaultValue;
+    }
+
+    protected static int getInt(ResultSet rs, int column, int defaultValue) throws SQLException {
+        if (column == ColumnIndex.MISSING) {
+            return defaultValue;
+        }
+        int value = rs.getInt(column);
+        return rs.wasNull() ? defaultValue : value;
+    }
+
+    protected static BigDecimal getBigDecimal(ResultSet rs, int column) throws SQLException {
+        return column != ColumnIndex.MISSING ? rs.getBigDecimal(column) : null;
+    }
+
+    protected static LocalDate getLocalDate(ResultSet rs, int column) throws SQLException {
+        if (column == ColumnIndex.MISSING) {
+            return null;
+        }
+        Date date = rs.getDate(column);
+        return date != null ? date.toLocalDate() : null;
+    }
+}
@@ -0,0 +1,43 @@
+package util;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+/**
+ * LatestRequest - One background query slot for a screen that re-queries
+ * (filters, search, reloads after a save). Submitting a new query cancels
+ * the one before it, and only the newest result is delivered, so results
+ * can't arrive out of order. Use from the EDT only.
+ */
+public final class LatestRequest {
+    private CompletableFuture<?> current;
+    private int generation;
+
+    /**
+     * Run query in the background and hand its result to onResult on the
+     * EDT, unless another query has been submitted since
+     */
+    public <T> CompletableFuture<T> submit(Callable<T> query, Consumer<? super T> onResult) {
+        cancel();
+        final int requestGeneration = generation;
+        CompletableFuture<T> future = AsyncDatabase.supply(query);
+        current = future;
+        AsyncDatabase.onEdt(future, result -> {
+            if (requestGeneration == generation) {
+                current = null;
+                onResult.accept(result);
+            }
+        });
+        return future;
+    }
+
+    // Drop the query in flight, if any
+    public void cancel() {
+        generation++;
+        if (current != null) {
+            current.cancel(true);
+            current = null;
+        }
+    }
+}
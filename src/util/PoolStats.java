@@ -0,0 +1,88 @@
+package util;
+
+/**
+ * PoolStats - Immutable snapshot of connection pool counters.
+ * Get one from DatabaseConnection.getPoolStats().
+ */
+public class PoolStats {
+    private final int active;
+    private final int idle;
+    private final int maxSize;
+    private final long borrowCount;
+    private final long timeoutCount;
+    private final long createdCount;
+    private final long destroyedCount;
+    private final long totalWaitNanos;
+    private final long maxWaitNanos;
+    private final long totalBorrowNanos;
+    private final long maxBorrowNanos;
+    private final long statementHits;
+    private final long statementMisses;
+    private final long statementEvictions;
+
+    public PoolStats(int active, int idle, int maxSize, long borrowCount, long timeoutCount,
+                     long createdCount, long destroyedCount, long totalWaitNanos, long maxWaitNanos,
+                     long totalBorrowNanos, long maxBorrowNanos,
+                     long statementHits, long statementMisses, long statementEvictions) {
+        this.active = active;
+        this.idle = idle;
+        this.maxSize = maxSize;
+        this.borrowCount = borrowCount;
+        this.timeoutCount = timeoutCount;
+        this.createdCount = createdCount;
+        this.destroyedCount = destroyedCount;
+        this.totalWaitNanos = totalWaitNanos;
+        this.maxWaitNanos = maxWaitNanos;
+        this.totalBorrowNanos = totalBorrowNanos;
+        this.maxBorrowNanos = maxBorrowNanos;
+        this.statementHits = statementHits;
+        this.statementMisses = statementMisses;
+        this.statementEvictions = statementEvictions;
+    }
+
+    // Connections currently handed out to callers
+    public int getActive() { return active; }
+
+    // Open connections sitting in the pool
+    public int getIdle() { return idle; }
+
+    public int getMaxSize() { return maxSize; }
+    public long getBorrowCount() { return borrowCount; }
+    public long getTimeoutCount() { return timeoutCount; }
+    public long getCreatedCount() { return createdCount; }
+    public long getDestroyedCount() { return destroyedCount; }
+
+    // Time spent waiting for a free slot when the pool was exhausted
+    public double getAverageWaitMillis() {
+        return borrowCount == 0 ? 0.0 : totalWaitNanos / 1_000_000.0 / borrowCount;
+    }
+
+    public double getMaxWaitMillis() { return maxWaitNanos / 1_000_000.0; }
+
+    // Full borrow time: waiting + validation + opening a new connection if needed
+    public double getAverageBorrowMillis() {
+        return borrowCount == 0 ? 0.0 : totalBorrowNanos / 1_000_000.0 / borrowCount;
+    }
+
+    public double getMaxBorrowMillis() { return maxBorrowNanos / 1_000_000.0; }
+
+    // Prepared-statement cache counters, summed over all pooled connections
+    public long getStatementHits() { return statementHits; }
+    public long getStatementMisses() { return statementMisses; }
+    public long getStatementEvictions() { return statementEvictions; }
+
+    public double getStatementHitRatio() {
+        long lookups = statementHits + statementMisses;
+        return lookups == 0 ? 0.0 : (double) statementHits / lookups;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("active=%d idle=%d max=%d borrows=%d timeouts=%d created=%d destroyed=%d "
+                + "avgWait=%.3fms maxWait=%.3fms avgBorrow=%.3fms maxBorrow=%.3fms "
+                + "stmtHits=%d stmtMisses=%d stmtEvictions=%d stmtHitRatio=%.1f%%",
+                active, idle, maxSize, borrowCount, timeoutCount, createdCount, destroyedCount,
+                getAverageWaitMillis(), getMaxWaitMillis(), getAverageBorrowMillis(), getMaxBorrowMillis(),
+                statementHits, statementMisses, statementEvictions, getStatementHitRatio() * 100);
+    }
+}
@@ -0,0 +1,145 @@
+package util;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * PooledConnection - Wraps one physical connection owned by ConnectionPool.
+ * Callers get a proxy; calling close() on it hands the connection back to
+ * the pool instead of closing the socket. prepareStatement(sql) calls are
+ * served from a per-connection StatementCache.
+ */
+class PooledConnection implements InvocationHandler {
+    private final ConnectionPool pool;
+    private final Connection physical;
+    private final long createdAt;
+    private final StatementCache statements;
+
+    private volatile long lastReturnedAt;
+    private volatile boolean broken;
+    private volatile boolean isolationChanged;
+    private final int defaultIsolation;
+    private Connection proxy;
+    private boolean loggedOut = true;
+
+    PooledConnection(ConnectionPool pool, Connection physical, int statementCacheSize) throws SQLException {
+        this.pool = pool;
+        this.physical = physical;
+        this.statements = statementCacheSize > 0 ? new StatementCache(pool, physical, statementCacheSize) : null;
+        this.createdAt = System.currentTimeMillis();
+        this.lastReturnedAt = createdAt;
+        this.defaultIsolation = physical.getTransactionIsolation();
+    }
+
+    /**
+     * Hand out a fresh proxy; each borrow gets its own so a stale
+     * reference from an earlier borrower cannot touch the connection
+     */
+    synchronized Connection lease() {
+        loggedOut = false;
+        proxy = (Connection) Proxy.newProxyInstance(
+            Connection.class.getClassLoader(), new Class<?>[]{Connection.class}, this);
+        return proxy;
+    }
+
+    Connection getPhysical() { return physical; }
+    long getCreatedAt() { return createdAt; }
+    long getLastReturnedAt() { return lastReturnedAt; }
+    boolean isBroken() { return broken; }
+
+    /**
+     * Check the physical connection is still usable
+     */
+    boolean validate(int timeoutSeconds) {
+        try {
+            return !physical.isClosed() && physical.isValid(timeoutSeconds);
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Restore default session state before the connection goes back to the pool
+     */
+    void reset() throws SQLException {
+        if (statements != null) {
+            statements.releaseAll();
+        }
+        if (!physical.getAutoCommit()) {
+            physical.rollback();
+            physical.setAutoCommit(true);
+        }
+        if (isolationChanged) {
+            physical.setTransactionIsolation(defaultIsolation);
+            isolationChanged = false;
+        }
+        if (physical.isReadOnly()) {
+            physical.setReadOnly(false);
+        }
+        physical.clearWarnings();
+    }
+
+    void closePhysical() {
+        if (statements != null) {
+            statements.closeAll();
+        }
+        try {
+            physical.close();
+        } catch (SQLException e) {
+            // Already gone; nothing else to release
+        }
+    }
+
+    @Override
+    public Object invoke(Object proxyObj, Method method, Object[] args) throws Throwable {
+        String name = method.getName();
+        if (method.getDeclaringClass() == Object.class) {
+            if ("equals".equals(name)) return proxyObj == args[0];
+            if ("hashCode".equals(name)) return System.identityHashCode(proxyObj);
+            return "PooledConnection[" + physical + "]";
+        }
+        synchronized (this) {
+            if (proxyObj != proxy || loggedOut) {
+                if ("close".equals(name)) return null;
+                if ("isClosed".equals(name)) return true;
+                throw new SQLException("Connection has already been returned to the pool");
+            }
+            if ("close".equals(name)) {
+                loggedOut = true;
+                proxy = null;
+                lastReturnedAt = System.currentTimeMillis();
+                pool.release(this);
+                return null;
+            }
+        }
+        if ("isClosed".equals(name)) return false;
+        if ("unwrap".equals(name) && args[0] == Connection.class) return proxyObj;
+        if ("setTransactionIsolation".equals(name)) isolationChanged = true;
+        try {
+            if ("prepareStatement".equals(name) && statements != null && StatementCache.isCacheable(method)) {
+                return statements.prepare((Connection) proxyObj, (String) args[0], StatementCache.autoGeneratedKeys(args));
+            }
+            return method.invoke(physical, args);
+        } catch (InvocationTargetException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof SQLException) {
+                String state = ((SQLException) cause).getSQLState();
+                // Class 08 = connection exception; don't hand this one out again
+                if (state != null && state.startsWith("08")) {
+                    broken = true;
+                }
+            }
+            throw cause;
+        } catch (SQLException e) {
+            String state = e.getSQLState();
+            if (state != null && state.startsWith("08")) {
+                broken = true;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package util;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * ResultStream - Reads a query as a Stream, one row at a time, instead of
+ * collecting it into a list first. The statement is forward-only and
+ * read-only with a fetch size, so the driver only holds a few rows in
+ * memory however large the result is.
+ *
+ * The stream owns the connection until it is closed, so always use it in
+ * try-with-resources.
+ */
+public final class ResultStream {
+
+    private ResultStream() {
+    }
+
+    /**
+     * Thrown from the stream when reading a row fails
+     */
+    public static class ReadException extends RuntimeException {
+        public ReadException(SQLException cause) {
+            super(cause.getMessage(), cause);
+        }
+
+        public SQLException getSQLException() {
+            return (SQLException) getCause();
+        }
+    }
+
+    /**
+     * Prepare a forward-only, read-only statement for streaming. These are
+     * not served from the statement cache.
+     */
+    public static PreparedStatement prepare(Connection conn, String sql, int fetchSize) throws SQLException {
+        PreparedStatement pst = conn.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+        pst.setFetchSize(fetchSize);
+        return pst;
+    }
+
+    /**
+     * Run the query and return its rows as a lazy Stream. Closing the
+     * stream closes the result set, the statement and the connection;
+     * if the query fails they are closed before the exception is thrown.
+     */
+    public static <T> Stream<T> open(Connection conn, PreparedStatement pst, RowMapper<T> mapper) throws SQLException {
+        final ResultSet rs;
+        try {
+            rs = pst.executeQuery();
+        } catch (SQLException e) {
+            closeQuietly(pst, conn);
+            throw e;
+        }
+
+        Spliterator<T> rows = new Spliterators.AbstractSpliterator<T>(Long.MAX_VALUE,
+                Spliterator.ORDERED | Spliterator.NONNULL) {
+            @Override
+            public boolean tryAdvance(Consumer<? super T> action) {
+                try {
+                    if (!rs.next()) {
+                        return false;
+                    }
+                    action.accept(mapper.map(rs));
+                    return true;
+                } catch (SQLException e) {
+                    throw new ReadException(e);
+                }
+            }
+        };
+        return StreamSupport.stream(rows, false).onClose(() -> closeQuietly(rs, pst, conn));
+    }
+
+    public static void closeQuietly(AutoCloseable... resources) {
+        for (AutoCloseable resource : resources) {
+            if (resource == null) continue;
+            try {
+                resource.close();
+            } catch (Exception e) {
+                // Nothing useful to do; the connection is reset when it goes back to the pool
+            }
+        }
+    }
+}
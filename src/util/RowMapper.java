@@ -0,0 +1,12 @@
+package util;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Builds one object from the current row of a ResultSet
+ */
+@FunctionalInterface
+public interface RowMapper<T> {
+    T map(ResultSet rs) throws SQLException;
+}
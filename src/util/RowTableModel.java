@@ -0,0 +1,107 @@
+package util;
+
+import javax.swing.table.AbstractTableModel;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * RowTableModel - Table model over a list of typed rows (Room, Tenant, ...).
+ *
+ * Cells are the row's own values - ints, long centavos, strings - rather
+ * than preformatted text, so a row sorter compares numbers as numbers and
+ * formatting is left to the column's cell renderer. The model keeps one
+ * reference per row instead of an Object[] of strings. setRows replaces
+ * every row with a single event; put and remove patch one row by id.
+ * Use from the EDT only.
+ */
+public abstract class RowTableModel<T> extends AbstractTableModel {
+    private final String[] columns;
+    private final Class<?>[] types;
+    private List<T> rows = new ArrayList<>();
+
+    protected RowTableModel(String[] columns, Class<?>[] types) {
+        this.columns = columns;
+        this.types = types;
+    }
+
+    protected abstract int idOf(T row);
+
+    // Cell value for a column; boxed numbers, never formatted text
+    protected abstract Object valueAt(T row, int column);
+
+    public void setRows(List<T> rows) {
+        this.rows = new ArrayList<>(rows);
+        fireTableDataChanged();
+    }
+
+    public T getRow(int row) {
+        return rows.get(row);
+    }
+
+    public List<T> getRows() {
+        return Collections.unmodifiableList(rows);
+    }
+
+    // Model row of the row with this id, or -1
+    public int indexOf(int id) {
+        for (int i = 0; i < rows.size(); i++) {
+            if (idOf(rows.get(i)) == id) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    // Replace the row with the same id in place, or append it
+    public void put(T row) {
+        int index = indexOf(idOf(row));
+        if (index < 0) {
+            rows.add(row);
+            fireTableRowsInserted(rows.size() - 1, rows.size() - 1);
+        } else {
+            rows.set(index, row);
+            fireTableRowsUpdated(index, index);
+        }
+    }
+
+    public boolean remove(int id) {
+        int index = indexOf(id);
+        if (index < 0) {
+            return false;
+        }
+        rows.remove(index);
+        fireTableRowsDeleted(index, index);
+        return true;
+    }
+
+    @Override
+    public int getRowCount() {
+        return rows.size();
+    }
+
+    @Override
+    public int getColumnCount() {
+        return columns.length;
+    }
+
+    @Override
+    public String getColumnName(int column) {
+        return columns[column];
+    }
+
+    @Override
+    public Class<?> getColumnClass(int column) {
+        return types[column];
+    }
+
+    @Override
+    public boolean isCellEditable(int row, int column) {
+        return false;
+    }
+
+    @Override
+    public Object getValueAt(int row, int column) {
+        return valueAt(rows.get(row), column);
+    }
+}
@@ -0,0 +1,226 @@
+package util;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.*;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+/**
+ * SchemaMigrator - Brings the database schema up to date at startup.
+ *
+ * Scripts live in db/migration (on the classpath, or src/db/migration when
+ * running from the project folder) and are named V<version>__<description>.sql.
+ * Each one runs once, in version order; the version, a checksum of the
+ * script and the time taken are recorded in schema_version. Editing a
+ * script that has already been applied is refused - add a new version
+ * instead.
+ *
+ * Statements are split on ';' at the end of a line, and lines starting
+ * with "--" are comments.
+ */
+public class SchemaMigrator {
+    private static final String RESOURCE_DIR = "/db/migration/";
+    private static final String SOURCE_DIR = "src/db/migration";
+    private static final String LOCK_NAME = "houserent_schema_migration";
+    private static final int LOCK_TIMEOUT_SECONDS = 60;
+
+    // Add new scripts at the end; never rename or edit one that has shipped
+    private static final String[] SCRIPTS = {
+        "V1__baseline_schema.sql",
+        "V2__query_indexes.sql",
+        "V3__payments_tenant_id.sql",
+        "V4__search_indexes.sql",
+        "V5__billing_period.sql",
+        "V6__billing_watermark.sql",
+        "V7__billing_settings_version.sql",
+        "V8__search_indexes_without_stopwords.sql",
+        "V9__records_gender.sql",
+        "V10__payments_search_without_month.sql",
+    };
+
+    /**
+     * Apply pending migrations; returns false (and logs why) if the schema
+     * could not be brought up to date
+     */
+    public static boolean migrate() {
+        try (Connection conn = DatabaseConnection.getConnection()) {
+            int applied = new SchemaMigrator().run(conn);
+            if (applied > 0) {
+                System.out.println("✅ Applied " + applied + " schema migration(s)");
+            }
+            return true;
+        } catch (SQLException | IOException e) {
+            System.err.println("❌ Schema migration failed: " + e.getMessage());
+            e.printStackTrace();
+            return false;
+        }
+    }
+
+    /**
+     * Run every script not yet recorded in schema_version; returns how many ran
+     */
+    int run(Connection conn) throws SQLException, IOException {
+        try (Statement stmt = conn.createStatement()) {
+            stmt.execute("CREATE TABLE IF NOT EXISTS schema_version (" +
+                         "version INT PRIMARY KEY, " +
+                         "description VARCHAR(200) NOT NULL, " +
+                         "checksum BIGINT NOT NULL, " +
+                         "execution_ms INT NOT NULL, " +
+                         "applied_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP)");
+        }
+
+        // Two copies of the app starting together must not both apply a script
+        acquireLock(conn);
+        try {
+            Map<Integer, Long> applied = loadAppliedVersions(conn);
+            int count = 0;
+            int lastVersion = 0;
+            for (String script : SCRIPTS) {
+                int version = parseVersion(script);
+                if (version <= lastVersion) {
+                    throw new SQLException("Migration " + script + " is out of order");
+                }
+                lastVersion = version;
+
+                String sql = readScript(script);
+                long checksum = checksum(sql);
+                Long appliedChecksum = applied.get(version);
+                if (appliedChecksum != null) {
+                    if (appliedChecksum != checksum) {
+                        throw new SQLException("Migration " + script + " was changed after it was applied "
+                                + "(checksum " + checksum + ", recorded " + appliedChecksum + ")");
+                    }
+                    continue;
+                }
+
+                long start = System.currentTimeMillis();
+                for (String statement : splitStatements(sql)) {
+                    try (Statement stmt = conn.createStatement()) {
+                        stmt.execute(statement);
+                    }
+                }
+                long elapsed = System.currentTimeMillis() - start;
+                recordVersion(conn, version, parseDescription(script), checksum, elapsed);
+                System.out.println("📦 Migrated schema to V" + version + " (" + script + ") in " + elapsed + " ms");
+                count++;
+            }
+
+            for (int version : applied.keySet()) {
+                if (version > lastVersion) {
+                    System.err.println("Warning: database is at schema V" + version
+                            + ", newer than this application knows (V" + lastVersion + ")");
+                }
+            }
+            return count;
+        } finally {
+            releaseLock(conn);
+        }
+    }
+
+    private void acquireLock(Connection conn) throws SQLException {
+        try (PreparedStatement pst = conn.prepareStatement("SELECT GET_LOCK(?, ?)")) {
+            pst.setString(1, LOCK_NAME);
+            pst.setInt(2, LOCK_TIMEOUT_SECONDS);
+            try (ResultSet rs = pst.executeQuery()) {
+                if (!rs.next() || rs.getInt(1) != 1) {
+                    throw new SQLException("Timed out waiting for another instance to finish migrating the schema");
+                }
+            }
+        }
+    }
+
+    private void releaseLock(Connection conn) {
+        try (PreparedStatement pst = conn.prepareStatement("SELECT RELEASE_LOCK(?)")) {
+            pst.setString(1, LOCK_NAME);
+            pst.executeQuery().close();
+        } catch (SQLException e) {
+            // The lock is released anyway when the session ends
+        }
+    }
+
+    private Map<Integer, Long> loadAppliedVersions(Connection conn) throws SQLException {
+        Map<Integer, Long> applied = new HashMap<>();
+        try (Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT version, checksum FROM schema_version")) {
+            while (rs.next()) {
+                applied.put(rs.getInt("version"), rs.getLong("checksum"));
+            }
+        }
+        return applied;
+    }
+
+    private void recordVersion(Connection conn, int version, String description, long checksum, long elapsed) throws SQLException {
+        String sql = "INSERT INTO schema_version (version, description, checksum, execution_ms) VALUES (?, ?, ?, ?)";
+        try (PreparedStatement pst = conn.prepareStatement(sql)) {
+            pst.setInt(1, version);
+            pst.setString(2, description);
+            pst.setLong(3, checksum);
+            pst.setInt(4, (int) elapsed);
+            pst.executeUpdate();
+        }
+    }
+
+    private static int parseVersion(String script) {
+        return Integer.parseInt(script.substring(1, script.indexOf("__")));
+    }
+
+    private static String parseDescription(String script) {
+        return script.substring(script.indexOf("__") + 2, script.lastIndexOf('.')).replace('_', ' ');
+    }
+
+    // Script text with line endings normalized, so a CRLF checkout has the same checksum
+    private static String readScript(String script) throws IOException {
+        InputStream in = SchemaMigrator.class.getResourceAsStream(RESOURCE_DIR + script);
+        if (in == null) {
+            File file = new File(SOURCE_DIR, script);
+            if (!file.exists()) {
+                throw new IOException("Migration script not found: " + script);
+            }
+            in = new FileInputStream(file);
+        }
+        try (InputStream input = in) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[8192];
+            int n;
+            while ((n = input.read(buffer)) != -1) {
+                out.write(buffer, 0, n);
+            }
+            return new String(out.toByteArray(), StandardCharsets.UTF_8).replace("\r\n", "\n");
+        }
+    }
+
+    static long checksum(String sql) {
+        CRC32 crc = new CRC32();
+        crc.update(sql.getBytes(StandardCharsets.UTF_8));
+        return crc.getValue();
+    }
+
+    static List<String> splitStatements(String sql) {
+        List<String> statements = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        for (String line : sql.split("\n")) {
+            String trimmed = line.trim();
+            if (trimmed.isEmpty() || trimmed.startsWith("--")) {
+                continue;
+            }
+            current.append(line).append('\n');
+            if (trimmed.endsWith(";")) {
+                String statement = current.toString().trim();
+                statements.add(statement.substring(0, statement.length() - 1));
+                current.setLength(0);
+            }
+        }
+        if (current.toString().trim().length() > 0) {
+            statements.add(current.toString().trim());
+        }
+        return statements;
+    }
+}
@@ -0,0 +1,110 @@
+package util;
+
+import java.time.Month;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * SearchQuery - Turns what the user typed into the search box into the
+ * pieces the DAOs query with:
+ *  - a MySQL boolean-mode full-text query for the ngram FULLTEXT indexes
+ *    (every word required, each matched as a phrase of ngrams)
+ *  - the room number, when the input is a number
+ *  - a prefix for inputs shorter than the ngram size, which the full-text
+ *    index cannot match
+ *  - with parseWithPeriod, a month name and a year ("January", "2025"),
+ *    which payments filter on period rather than the full-text index
+ */
+public class SearchQuery {
+    // innodb_ngram_token_size default; shorter words are not in the index
+    public static final int NGRAM_SIZE = 2;
+
+    // Default row cap for search results
+    public static final int DEFAULT_LIMIT = 50;
+
+    private final String text;
+    private final String booleanQuery;
+    private final Integer roomNumber;
+    private final Month month;
+    private final Integer year;
+
+    private SearchQuery(String text, String booleanQuery, Integer roomNumber, Month month, Integer year) {
+        this.text = text;
+        this.booleanQuery = booleanQuery;
+        this.roomNumber = roomNumber;
+        this.month = month;
+        this.year = year;
+    }
+
+    public static SearchQuery parse(String input) {
+        String text = input != null ? input.trim() : "";
+
+        List<String> terms = new ArrayList<>();
+        for (String word : text.split("\\s+")) {
+            // Drop boolean-mode operators so user input can't change the query syntax
+            String term = word.replaceAll("[+\\-<>()~*\"@]", "");
+            if (term.length() >= NGRAM_SIZE) {
+                terms.add("+\"" + term + "\"");
+            }
+        }
+
+        Integer roomNumber = null;
+        if (text.matches("\\d{1,9}")) {
+            roomNumber = Integer.parseInt(text);
+        }
+        return new SearchQuery(text, terms.isEmpty() ? null : String.join(" ", terms), roomNumber, null, null);
+    }
+
+    /**
+     * Like parse, but the first full month name and the first year
+     * (1900-2099) are taken out of the text and kept as period terms.
+     */
+    public static SearchQuery parseWithPeriod(String input) {
+        Month month = null;
+        Integer year = null;
+        List<String> rest = new ArrayList<>();
+        for (String word : (input != null ? input.trim() : "").split("\\s+")) {
+            Month named = monthNamed(word);
+            if (named != null && month == null) {
+                month = named;
+            } else if (year == null && word.matches("(19|20)\\d{2}")) {
+                year = Integer.parseInt(word);
+            } else if (!word.isEmpty()) {
+                rest.add(word);
+            }
+        }
+        SearchQuery query = parse(String.join(" ", rest));
+        return new SearchQuery(query.text, query.booleanQuery, query.roomNumber, month, year);
+    }
+
+    private static Month monthNamed(String word) {
+        try {
+            return Month.valueOf(word.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    public boolean isEmpty() { return text.isEmpty() && month == null && year == null; }
+
+    // Raw input, trimmed (without the period terms after parseWithPeriod)
+    public String getText() { return text; }
+
+    // Boolean-mode query, or null when no word is long enough for the ngram index
+    public String getBooleanQuery() { return booleanQuery; }
+    public boolean hasFullText() { return booleanQuery != null; }
+
+    // Room number if the whole input is a number, otherwise null
+    public Integer getRoomNumber() { return roomNumber; }
+
+    // Period terms from parseWithPeriod, otherwise null
+    public Month getMonth() { return month; }
+    public Integer getYear() { return year; }
+    public boolean hasPeriod() { return month != null || year != null; }
+
+    // Pattern for the prefix fallback used when hasFullText() is false
+    public String getPrefixPattern() {
+        return text.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_") + "%";
+    }
+}
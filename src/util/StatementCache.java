@@ -0,0 +1,180 @@
+package util;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+
+/**
+ * StatementCache - LRU cache of prepared statements for one pooled connection.
+ * Keyed by SQL text (plus the generated-keys flag). Callers still close the
+ * statement as usual; close() just clears parameters and closes the open
+ * result set so the next prepareStatement() with the same SQL reuses it.
+ */
+class StatementCache {
+    private final ConnectionPool pool;
+    private final Connection physical;
+    private final int maxSize;
+    private final LinkedHashMap<String, CachedStatement> statements;
+
+    StatementCache(ConnectionPool pool, Connection physical, int maxSize) {
+        this.pool = pool;
+        this.physical = physical;
+        this.maxSize = maxSize;
+        this.statements = new LinkedHashMap<>(16, 0.75f, true); // access order = LRU
+    }
+
+    /**
+     * Return a cached statement for this SQL, preparing it on a miss.
+     * If the cached one is still open (e.g. nested use), a plain uncached
+     * statement is returned instead.
+     */
+    synchronized PreparedStatement prepare(Connection owner, String sql, int autoGeneratedKeys) throws SQLException {
+        String key = autoGeneratedKeys == Statement.RETURN_GENERATED_KEYS ? sql + "\u0000keys" : sql;
+        CachedStatement cached = statements.get(key);
+        if (cached != null) {
+            if (cached.inUse) {
+                return physical.prepareStatement(sql, autoGeneratedKeys);
+            }
+            pool.recordStatementHit();
+            return cached.checkOut(owner);
+        }
+
+        pool.recordStatementMiss();
+        cached = new CachedStatement(physical.prepareStatement(sql, autoGeneratedKeys));
+        statements.put(key, cached);
+        evictOverflow();
+        return cached.checkOut(owner);
+    }
+
+    private void evictOverflow() {
+        Iterator<CachedStatement> it = statements.values().iterator(); // least recently used first
+        while (statements.size() > maxSize && it.hasNext()) {
+            CachedStatement eldest = it.next();
+            if (!eldest.inUse) {
+                it.remove();
+                eldest.closePhysical();
+                pool.recordStatementEviction();
+            }
+        }
+    }
+
+    /**
+     * Called when the connection goes back to the pool: statements a caller
+     * forgot to close become reusable again
+     */
+    synchronized void releaseAll() {
+        for (CachedStatement cached : new ArrayList<>(statements.values())) {
+            if (cached.inUse) {
+                cached.checkIn();
+            }
+        }
+    }
+
+    synchronized void closeAll() {
+        List<CachedStatement> all = new ArrayList<>(statements.values());
+        statements.clear();
+        for (CachedStatement cached : all) {
+            cached.closePhysical();
+        }
+    }
+
+    /**
+     * One cached physical statement; callers get a proxy per checkout
+     */
+    private class CachedStatement implements InvocationHandler {
+        private final PreparedStatement statement;
+        private PreparedStatement proxy;
+        private Connection owner;
+        private ResultSet openResult;
+        private boolean inUse;
+
+        CachedStatement(PreparedStatement statement) {
+            this.statement = statement;
+        }
+
+        PreparedStatement checkOut(Connection owner) {
+            this.owner = owner;
+            this.inUse = true;
+            this.proxy = (PreparedStatement) Proxy.newProxyInstance(
+                PreparedStatement.class.getClassLoader(), new Class<?>[]{PreparedStatement.class}, this);
+            return proxy;
+        }
+
+        void checkIn() {
+            inUse = false;
+            proxy = null;
+            owner = null;
+            try {
+                if (openResult != null) {
+                    openResult.close();
+                    openResult = null;
+                }
+                statement.clearParameters();
+                statement.clearBatch();
+            } catch (SQLException e) {
+                // Broken statement: drop it so it is prepared again next time
+                statements.values().remove(this);
+                closePhysical();
+            }
+        }
+
+        void closePhysical() {
+            try {
+                statement.close();
+            } catch (SQLException e) {
+                // Already closed with its connection
+            }
+        }
+
+        @Override
+        public Object invoke(Object proxyObj, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (method.getDeclaringClass() == Object.class) {
+                if ("equals".equals(name)) return proxyObj == args[0];
+                if ("hashCode".equals(name)) return System.identityHashCode(proxyObj);
+                return "CachedStatement[" + statement + "]";
+            }
+            synchronized (StatementCache.this) {
+                if (proxyObj != proxy) {
+                    if ("close".equals(name)) return null;
+                    if ("isClosed".equals(name)) return true;
+                    throw new SQLException("Statement has already been closed");
+                }
+                if ("close".equals(name)) {
+                    checkIn();
+                    return null;
+                }
+            }
+            if ("isClosed".equals(name)) return false;
+            if ("getConnection".equals(name)) return owner;
+            try {
+                Object result = method.invoke(statement, args);
+                if (result instanceof ResultSet && "executeQuery".equals(name)) {
+                    openResult = (ResultSet) result;
+                }
+                return result;
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+
+    static boolean isCacheable(Method method) {
+        Class<?>[] params = method.getParameterTypes();
+        return params.length == 1 || (params.length == 2 && params[1] == int.class);
+    }
+
+    static int autoGeneratedKeys(Object[] args) {
+        return args.length == 2 ? (Integer) args[1] : Statement.NO_GENERATED_KEYS;
+    }
+}
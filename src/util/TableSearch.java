@@ -0,0 +1,136 @@
+package util;
+
+import javax.swing.JTable;
+import javax.swing.RowFilter;
+import javax.swing.table.TableModel;
+import javax.swing.table.TableRowSorter;
+import java.util.Locale;
+
+/**
+ * TableSearch - Searches a table in memory. The screen loads its rows into
+ * the model once (the snapshot); searching and status filters only change
+ * which rows the view shows, through a TableRowSorter.
+ *
+ * The lower-cased text of the searchable columns is built once per snapshot,
+ * so a keystroke costs a substring check per row. The snapshot counts as
+ * stale after MAX_AGE_MS; the screen reloads it from the database then.
+ * Use from the EDT only.
+ */
+public final class TableSearch {
+    public static final long MAX_AGE_MS = 60_000;
+
+    private final JTable table;
+    private final TableRowSorter<TableModel> sorter;
+    private final int[] searchColumns;
+    private String[] keys = new String[0];
+    private long loadedAt;   // 0 = never loaded
+
+    private String text = "";
+    private int matchColumn = -1;
+    private String matchValue;
+
+    public TableSearch(JTable table, int... searchColumns) {
+        this.table = table;
+        this.searchColumns = searchColumns;
+        this.sorter = new TableRowSorter<>(table.getModel());
+        sorter.setRowFilter(new RowFilter<TableModel, Integer>() {
+            @Override
+            public boolean include(Entry<? extends TableModel, ? extends Integer> entry) {
+                return matches(entry.getIdentifier());
+            }
+        });
+        table.setRowSorter(sorter);
+        // Any change to the rows outdates the keys; they are rebuilt lazily until snapshotLoaded
+        table.getModel().addTableModelListener(e -> keys = new String[0]);
+    }
+
+    /**
+     * Call after the model has been refilled: rebuilds the search keys and
+     * re-applies the current filter
+     */
+    public void snapshotLoaded() {
+        TableModel model = table.getModel();
+        String[] rebuilt = new String[model.getRowCount()];
+        for (int row = 0; row < rebuilt.length; row++) {
+            rebuilt[row] = keyFor(model, row);
+        }
+        keys = rebuilt;
+        loadedAt = System.currentTimeMillis();
+        sorter.allRowsChanged();
+    }
+
+    public boolean isStale() {
+        return loadedAt == 0 || System.currentTimeMillis() - loadedAt > MAX_AGE_MS;
+    }
+
+    // Force a reload on the next search (e.g. after another screen changed the data)
+    public void invalidate() {
+        loadedAt = 0;
+    }
+
+    /**
+     * Show rows whose searchable columns contain text (case-insensitive) and
+     * whose column equals value; a null or "All" value matches every row
+     */
+    public void setFilter(String text, int column, String value) {
+        this.text = text != null ? text.trim().toLowerCase(Locale.ROOT) : "";
+        this.matchColumn = value != null && !"All".equalsIgnoreCase(value) ? column : -1;
+        this.matchValue = value;
+        sorter.allRowsChanged();
+    }
+
+    public void setFilter(String text) {
+        setFilter(text, -1, null);
+    }
+
+    public boolean hasText() {
+        return !text.isEmpty();
+    }
+
+    // Rows left after filtering
+    public int getVisibleCount() {
+        return table.getRowCount();
+    }
+
+    // Visible rows whose column equals value (case-insensitive)
+    public int countVisible(int column, String value) {
+        TableModel model = table.getModel();
+        int count = 0;
+        for (int viewRow = 0; viewRow < table.getRowCount(); viewRow++) {
+            Object cell = model.getValueAt(table.convertRowIndexToModel(viewRow), column);
+            if (cell != null && value.equalsIgnoreCase(cell.toString())) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private boolean matches(int row) {
+        TableModel model = table.getModel();
+        if (matchColumn >= 0) {
+            Object cell = model.getValueAt(row, matchColumn);
+            if (cell == null || !matchValue.equalsIgnoreCase(cell.toString())) {
+                return false;
+            }
+        }
+        if (text.isEmpty()) {
+            return true;
+        }
+        // Rows changed since the last snapshotLoaded have no key yet
+        String key = row < keys.length ? keys[row] : keyFor(model, row);
+        return key.contains(text);
+    }
+
+    // Searchable columns, lower-cased; \0 between them so a match can't span two cells
+    private String keyFor(TableModel model, int row) {
+        StringBuilder key = new StringBuilder();
+        for (int column : searchColumns) {
+            Object cell = model.getValueAt(row, column);
+            if (cell != null) {
+                key.append(cell.toString().toLowerCase(Locale.ROOT));
+            }
+            key.append('\0');
+        }
+        return key.toString();
+    }
+}